@@ -1,12 +1,21 @@
 package io.conflictradar.processing.service.elasticsearch;
 
+import io.conflictradar.processing.config.ProcessingConfig;
 import io.conflictradar.processing.dto.input.NewsIngestedEvent;
 import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity;
 import io.conflictradar.processing.repository.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -15,6 +24,8 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -42,6 +53,18 @@ class ElasticsearchIndexingServiceIntegrationTest {
     @Autowired
     private ArticleRepository articleRepository;
 
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Autowired
+    private ProcessingConfig config;
+
+    @Autowired
+    private RestClient restClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     @DisplayName("Should index article to real Elasticsearch")
     void shouldIndexArticleToRealElasticsearch() {
@@ -143,7 +166,53 @@ class ElasticsearchIndexingServiceIntegrationTest {
 
         assertThat(articleRepository.existsById("search-test-555")).isTrue();
 
-        var searchResults = indexingService.searchArticles("conflict", 10);
+        var searchResults = indexingService.searchArticles("conflict", 10, 0, null);
         assertThat(searchResults).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should count conflict-relevant entities in a legacy index that maps them as plain objects")
+    void shouldCountConflictRelevantEntitiesInObjectMappedIndex() {
+        // An index from before the nested mapping: entities are plain objects there
+        IndexCoordinates legacy = IndexCoordinates.of("articles-2020-01");
+        IndexOperations legacyOps = elasticsearchOperations.indexOps(legacy);
+        legacyOps.create(Map.of(), Document.parse("""
+                {"properties": {
+                    "highPriority": {"type": "boolean"},
+                    "entities": {"type": "object", "properties": {"conflictRelevant": {"type": "boolean"}}}
+                }}
+                """));
+        elasticsearchOperations.index(new IndexQueryBuilder().withId("legacy-1")
+                .withSource("{\"highPriority\": true, \"entities\": [{\"text\": \"Kharkiv\", \"conflictRelevant\": true}]}")
+                .build(), legacy);
+        elasticsearchOperations.index(new IndexQueryBuilder().withId("legacy-2")
+                .withSource("{\"highPriority\": false, \"entities\": [{\"text\": \"Paris\", \"conflictRelevant\": false}]}")
+                .build(), legacy);
+
+        // A current article, its entities nested
+        NewsIngestedEvent event = new NewsIngestedEvent(
+                "nested-stats-321", "Shelling reported in Kharkiv", "https://test.com", "Source",
+                LocalDateTime.now(), 0.6, Set.of("shelling"), LocalDateTime.now()
+        );
+        EntityExtractionResult entityResult = new EntityExtractionResult(List.of(
+                new ExtractedEntity("Kharkiv", ExtractedEntity.EntityType.LOCATION, 0.9, 21, 28)
+        ), 5, 0.9);
+        assertThat(indexingService.indexArticle(event, entityResult)).succeedsWithin(java.time.Duration.ofSeconds(5));
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of("articles-*")).refresh();
+
+        // A service of its own, so no stats cached by other tests
+        ElasticsearchIndexingService statsService = new ElasticsearchIndexingService(
+                config, Runnable::run, restClient, elasticsearchOperations, meterRegistry);
+        try {
+            ElasticsearchIndexingService.IndexingStats stats = statsService.getStats();
+
+            // The other tests index articles without conflict-relevant entities
+            assertThat(stats.conflictRelevantArticles()).isEqualTo(2);
+            assertThat(stats.highPriorityArticles()).isGreaterThanOrEqualTo(1);
+            assertThat(stats.totalArticles()).isGreaterThanOrEqualTo(3);
+        } finally {
+            statsService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.conflictradar.processing;
+
+import io.conflictradar.processing.dto.input.NewsIngestedEvent;
+import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity.EntityType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Representative inputs shared by the benchmarks
+ */
+public final class BenchmarkFixtures {
+
+    public static final List<String> HEADLINES = List.of(
+            "Ukraine war: Russian forces shell Kharkiv as President Zelensky meets NATO leaders in Brussels",
+            "UN Security Council holds emergency session on Gaza ceasefire talks brokered by Egypt and Qatar",
+            "Sudan army and Rapid Support Forces clash in Khartoum despite Saudi-mediated truce",
+            "Taiwan reports Chinese military aircraft near the island after US congressional visit",
+            "Markets rally as Federal Reserve Chair Jerome Powell signals pause in rate hikes",
+            "Defense Minister Lloyd Austin announces new aid package during visit to Kyiv"
+    );
+
+    public static final LocalDateTime PUBLISHED_AT = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Entities as NER produces them for a headline: one token per entity, mixed types
+     */
+    public static List<ExtractedEntity> tokenEntities() {
+        return List.of(
+                new ExtractedEntity("Ukraine", EntityType.LOCATION, 0.85, 0, 7),
+                new ExtractedEntity("Russian", EntityType.OTHER, 0.75, 13, 20),
+                new ExtractedEntity("Kharkiv", EntityType.LOCATION, 0.85, 34, 41),
+                new ExtractedEntity("President", EntityType.PERSON, 0.9, 45, 54),
+                new ExtractedEntity("Zelensky", EntityType.PERSON, 0.9, 55, 63),
+                new ExtractedEntity("NATO", EntityType.ORGANIZATION, 0.8, 70, 74),
+                new ExtractedEntity("Brussels", EntityType.LOCATION, 0.85, 86, 94),
+                new ExtractedEntity("UN", EntityType.ORGANIZATION, 0.8, 96, 98),
+                new ExtractedEntity("Security", EntityType.ORGANIZATION, 0.8, 99, 107),
+                new ExtractedEntity("Council", EntityType.ORGANIZATION, 0.8, 108, 115),
+                new ExtractedEntity("Gaza", EntityType.LOCATION, 0.85, 138, 142),
+                new ExtractedEntity("Egypt", EntityType.LOCATION, 0.85, 172, 177)
+        );
+    }
+
+    /**
+     * An extraction result of the given size, cycling through the token entities
+     */
+    public static EntityExtractionResult extractionResult(int entityCount) {
+        List<ExtractedEntity> tokens = tokenEntities();
+        List<ExtractedEntity> entities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            entities.add(tokens.get(i % tokens.size()));
+        }
+        return new EntityExtractionResult(entities, 42, 0.82);
+    }
+
+    public static NewsIngestedEvent newsIngestedEvent() {
+        return new NewsIngestedEvent(
+                "article-123",
+                HEADLINES.get(0),
+                "https://news.example.com/world/ukraine-kharkiv",
+                "https://news.example.com/rss",
+                PUBLISHED_AT,
+                0.72,
+                Set.of("war", "shelling", "military"),
+                PUBLISHED_AT.plusMinutes(5)
+        );
+    }
+}
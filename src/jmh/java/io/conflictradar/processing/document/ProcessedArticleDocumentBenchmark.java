@@ -0,0 +1,42 @@
+package io.conflictradar.processing.document;
+
+import io.conflictradar.processing.BenchmarkFixtures;
+import io.conflictradar.processing.dto.input.NewsIngestedEvent;
+import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProcessedArticleDocumentBenchmark {
+
+    private NewsIngestedEvent event;
+    private EntityExtractionResult entityResult;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = BenchmarkFixtures.newsIngestedEvent();
+        entityResult = BenchmarkFixtures.extractionResult(12);
+    }
+
+    @Benchmark
+    public ProcessedArticleDocument create() {
+        return ProcessedArticleDocument.create(
+                event.articleId(),
+                event.title(),
+                event.title(),
+                event.link(),
+                event.source(),
+                event.publishedAt(),
+                event.riskScore(),
+                event.conflictKeywords(),
+                entityResult.entities(),
+                0.85,
+                entityResult.getConflictRelevanceScore()
+        );
+    }
+}
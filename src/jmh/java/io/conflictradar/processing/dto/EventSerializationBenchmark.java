@@ -0,0 +1,67 @@
+package io.conflictradar.processing.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.conflictradar.processing.BenchmarkFixtures;
+import io.conflictradar.processing.dto.input.NewsIngestedEvent;
+import io.conflictradar.processing.dto.output.ArticleProcessedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of the consumed and produced Kafka payloads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private NewsIngestedEvent newsIngestedEvent;
+    private ArticleProcessedEvent articleProcessedEvent;
+    private byte[] newsIngestedJson;
+    private byte[] articleProcessedJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        newsIngestedEvent = BenchmarkFixtures.newsIngestedEvent();
+        articleProcessedEvent = ArticleProcessedEvent.create(
+                newsIngestedEvent.articleId(), newsIngestedEvent.title(), newsIngestedEvent.link(),
+                newsIngestedEvent.source(), newsIngestedEvent.publishedAt(),
+                newsIngestedEvent.riskScore(), newsIngestedEvent.conflictKeywords(),
+                0.85, 0.7, 12, 5,
+                "Kharkiv", "49.993500,36.230400", List.of("Ukraine", "Kharkiv", "Brussels"),
+                -0.6, Set.of("conflict", "news", "political")
+        );
+
+        newsIngestedJson = objectMapper.writeValueAsBytes(newsIngestedEvent);
+        articleProcessedJson = objectMapper.writeValueAsBytes(articleProcessedEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeNewsIngested() throws Exception {
+        return objectMapper.writeValueAsBytes(newsIngestedEvent);
+    }
+
+    @Benchmark
+    public NewsIngestedEvent deserializeNewsIngested() throws Exception {
+        return objectMapper.readValue(newsIngestedJson, NewsIngestedEvent.class);
+    }
+
+    @Benchmark
+    public byte[] serializeArticleProcessed() throws Exception {
+        return objectMapper.writeValueAsBytes(articleProcessedEvent);
+    }
+
+    @Benchmark
+    public ArticleProcessedEvent deserializeArticleProcessed() throws Exception {
+        return objectMapper.readValue(articleProcessedJson, ArticleProcessedEvent.class);
+    }
+}
@@ -0,0 +1,45 @@
+package io.conflictradar.processing.dto.nlp;
+
+import io.conflictradar.processing.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derived views over an extraction result, as the article pipeline calls them
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EntityAnalysisBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int entityCount;
+
+    private EntityExtractionResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        result = BenchmarkFixtures.extractionResult(entityCount);
+    }
+
+    @Benchmark
+    public double conflictRelevanceScore() {
+        return result.getConflictRelevanceScore();
+    }
+
+    @Benchmark
+    public EntityExtractionResult.EntityExtractionSummary summary() {
+        return result.getSummary();
+    }
+
+    @Benchmark
+    public void isConflictRelevant(Blackhole blackhole) {
+        for (ExtractedEntity entity : result.entities()) {
+            blackhole.consume(entity.isConflictRelevant());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.conflictradar.processing.service.nlp;
+
+import io.conflictradar.processing.BenchmarkFixtures;
+import io.conflictradar.processing.config.NlpConfig;
+import io.conflictradar.processing.config.PerformanceConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
+import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.service.geo.GeoNamesGazetteer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity extraction through the dictionary tier and the full CoreNLP pipeline (no cache in front of either)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NlpServiceBenchmark {
+
+    @Param({"entities", "full"})
+    public String profile;
+
+    private NlpService nlpService;
+    private List<ExtractedEntity> tokenEntities;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProcessingConfig config = new ProcessingConfig(
+                null,
+                new NlpConfig(
+                        new NlpConfig.Stanford(null, profile, null, 30, false),
+                        null,
+                        null,
+                        new NlpConfig.FastPath(true, 0.8, 0.7)
+                ),
+                null,
+                new PerformanceConfig(1, 10, Duration.ofMinutes(1), false, false, 0)
+        );
+        // Empty gazetteer: the dictionary tier runs on the bundled known-entities list only
+        nlpService = new NlpService(config, new SimpleMeterRegistry(),
+                new DictionaryEntityTagger(new GeoNamesGazetteer(config)));
+
+        // The service doesn't force GCs at startup, so the heap the models retain is measured here
+        long heapBefore = settledUsedHeap();
+        nlpService.initializePipeline();
+        if (!nlpService.isReady()) {
+            throw new IllegalStateException("CoreNLP pipeline failed to initialize");
+        }
+        long heapBytes = Math.max(0, settledUsedHeap() - heapBefore);
+        System.out.printf("CoreNLP profile '%s' retains ~%dMB of heap%n", profile, heapBytes / (1024 * 1024));
+
+        tokenEntities = BenchmarkFixtures.tokenEntities();
+    }
+
+    /**
+     * Used heap once garbage collection has settled (two readings within 1MB)
+     */
+    private static long settledUsedHeap() {
+        long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            System.gc();
+            long afterGc = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            if (Math.abs(used - afterGc) < 1024 * 1024) {
+                return afterGc;
+            }
+            used = afterGc;
+        }
+        return used;
+    }
+
+    @Benchmark
+    public EntityExtractionResult extractEntities() {
+        String headline = BenchmarkFixtures.HEADLINES.get(next++ % BenchmarkFixtures.HEADLINES.size());
+        return nlpService.extractEntities(headline);
+    }
+
+    @Benchmark
+    public EntityExtractionResult extractEntitiesFull() {
+        String headline = BenchmarkFixtures.HEADLINES.get(next++ % BenchmarkFixtures.HEADLINES.size());
+        return nlpService.extractEntitiesFull(headline);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<ExtractedEntity> groupConsecutiveEntities() {
+        return NlpService.groupConsecutiveEntities(tokenEntities);
+    }
+}
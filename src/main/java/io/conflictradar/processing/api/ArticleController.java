@@ -23,13 +23,23 @@ public class ArticleController {
         this.indexingService = indexingService;
     }
 
+    /**
+     * Full-text search. Use page for the first pages; for deeper paging pass the nextCursor of the previous result.
+     * Search failures are not masked as empty results and surface as a server error.
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<ProcessedArticleDocument>> searchArticles(
+    public ResponseEntity<?> searchArticles(
             @RequestParam String query,
-            @RequestParam(defaultValue = "20") int limit) {
-
-        List<ProcessedArticleDocument> results = indexingService.searchArticles(query, limit);
-        return ResponseEntity.ok(results);
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor) {
+
+        try {
+            return ResponseEntity.ok(indexingService.searchArticles(query, limit, page, cursor));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor, or a page beyond the result window
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @GetMapping("/high-priority")
@@ -79,6 +89,9 @@ public class ArticleController {
         return ResponseEntity.ok(articles);
     }
 
+    /**
+     * Article counts. When Elasticsearch can't answer this is a server error, not zero articles.
+     */
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getArticleStats() {
         var stats = indexingService.getStats();
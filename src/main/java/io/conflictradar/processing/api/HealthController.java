@@ -1,5 +1,6 @@
 package io.conflictradar.processing.api;
 
+import io.conflictradar.processing.metrics.ProcessingMetrics;
 import io.conflictradar.processing.service.geo.GeoNamesService;
 import io.conflictradar.processing.service.nlp.NlpService;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,10 +21,13 @@ public class HealthController {
 
     private final NlpService nlpService;
     private final GeoNamesService geoNamesService;
+    private final ProcessingMetrics processingMetrics;
 
-    public HealthController(NlpService nlpService, GeoNamesService geoNamesService) {
+    public HealthController(NlpService nlpService, GeoNamesService geoNamesService,
+                            ProcessingMetrics processingMetrics) {
         this.nlpService = nlpService;
         this.geoNamesService = geoNamesService;
+        this.processingMetrics = processingMetrics;
     }
 
     @GetMapping("/health")
@@ -73,13 +77,6 @@ public class HealthController {
 
     @GetMapping("/metrics")
     public ResponseEntity<Map<String, Object>> metrics() {
-        // TODO: Real metrics from Micrometer
-        return ResponseEntity.ok(Map.of(
-                "articlesProcessed", 0,
-                "entitiesExtracted", 0,
-                "locationsResolved", 0,
-                "averageProcessingTime", "0ms",
-                "errorRate", "0%"
-        ));
+        return ResponseEntity.ok(processingMetrics.snapshot());
     }
 }
\ No newline at end of file
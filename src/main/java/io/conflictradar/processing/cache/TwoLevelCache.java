@@ -0,0 +1,162 @@
+package io.conflictradar.processing.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache with a bounded in-heap tier (L1) in front of a shared remote tier (L2, Redis).
+ * Reads check L1, then L2, and promote L2 hits into L1; writes go to both tiers.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                         Cache remoteCache,
+                         MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+
+        this.l1Hits = tierCounter(meterRegistry, name, "l1_hit");
+        this.l2Hits = tierCounter(meterRegistry, name, "l2_hit");
+        this.misses = tierCounter(meterRegistry, name, "miss");
+    }
+
+    private static Counter tierCounter(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Counter.builder("cache.tier.requests")
+                .description("Two-level cache lookups by the tier that answered them")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null) {
+            l2Hits.increment();
+            Object storeValue = toStoreValue(remoteValue.get());
+            localCache.put(key, storeValue);
+            return storeValue;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Concurrent misses for the same key share one load ({@code @Cacheable(sync = true)}). The loader runs
+     * outside Caffeine's compute lock, so a slow load never blocks lookups of other keys; the other callers
+     * wait on the in-flight future instead.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            l1Hits.increment();
+            return (T) fromStoreValue(value);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return (T) fromStoreValue(await(inFlight));
+        }
+
+        try {
+            // The previous load may have finished between the L1 check and claiming the key
+            Object loaded = localCache.getIfPresent(key);
+            if (loaded == null) {
+                loaded = loadThrough(key, valueLoader);
+                localCache.put(key, loaded);
+            }
+            load.complete(loaded);
+            return (T) fromStoreValue(loaded);
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private Object loadThrough(Object key, Callable<?> valueLoader) {
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null) {
+            l2Hits.increment();
+            return toStoreValue(remoteValue.get());
+        }
+
+        misses.increment();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        remoteCache.put(key, value);
+        return toStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        localCache.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+    }
+}
@@ -1,11 +1,17 @@
 package io.conflictradar.processing.config;
 
+import org.springframework.util.unit.DataSize;
+
 import java.time.Duration;
 
+/**
+ * @param statsCacheTtl how long article counts are served from memory before the next aggregation request
+ */
 public record ElasticsearchConfig(
         String clusterName,
         Indices indices,
-        Indexing indexing
+        Indexing indexing,
+        Duration statsCacheTtl
 ) {
     public record Indices(
             String articles,
@@ -14,10 +20,18 @@ public record ElasticsearchConfig(
             String analytics
     ) {}
 
+    /**
+     * Bulk requests go out at batchSize documents, maxBatchSize bytes or flushInterval, whichever comes first.
+     * At most concurrentRequests are in flight and maxPending documents unconfirmed before callers block.
+     */
     public record Indexing(
             int batchSize,
+            DataSize maxBatchSize,
             Duration flushInterval,
+            int concurrentRequests,
+            int maxPending,
             int maxRetries,
+            Duration retryBackoff,
             boolean enableRefresh
     ) {}
 }
@@ -0,0 +1,197 @@
+package io.conflictradar.processing.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded executors per pipeline stage, so blocking I/O never lands on ForkJoinPool.commonPool.
+ * Each one exports queue depth, active threads and saturation, tagged by executor name.
+ * With performance.virtual-threads the I/O executors start a virtual thread per task instead;
+ * the NLP executor always stays a fixed platform pool.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String NLP_EXECUTOR = "nlpExecutor";
+    public static final String ELASTICSEARCH_EXECUTOR = "elasticsearchExecutor";
+    public static final String GEO_EXECUTOR = "geoExecutor";
+
+    /**
+     * CPU-bound stages. When the queue is full the submitter (the Kafka consumer) waits for space, which slows polling;
+     * CoreNLP itself only ever runs on this pool's platform threads, never on a virtual listener thread.
+     * Tasks running here must not submit to this executor, or a full queue would deadlock the pool.
+     */
+    @Bean(NLP_EXECUTOR)
+    public ThreadPoolTaskExecutor nlpExecutor(ProcessingConfig config, MeterRegistry meterRegistry) {
+        return boundedExecutor("nlp", threads(config), config.performance().queueCapacity(),
+                blockingHandoff(), meterRegistry);
+    }
+
+    /**
+     * Completions of bulk Elasticsearch writes. Caller-runs: a slow cluster throttles consumption rather than
+     * dropping documents. With virtual threads a completion beyond the in-flight limit is rejected,
+     * and the bulk indexer then runs it inline.
+     */
+    @Bean(ELASTICSEARCH_EXECUTOR)
+    public AsyncTaskExecutor elasticsearchExecutor(ProcessingConfig config, MeterRegistry meterRegistry) {
+        if (config.performance().virtualThreads()) {
+            return virtualThreadExecutor("elasticsearch", config.performance().virtualThreadConcurrency(), meterRegistry);
+        }
+        return boundedExecutor("elasticsearch", threads(config) * 2, config.performance().queueCapacity(),
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    /**
+     * Gazetteer and cache lookups for geographic resolution. Geography is best effort, so a full queue
+     * (or, with virtual threads, a full set of in-flight lookups) rejects the lookup and the location stays unresolved.
+     */
+    @Bean(GEO_EXECUTOR)
+    public AsyncTaskExecutor geoExecutor(ProcessingConfig config, MeterRegistry meterRegistry) {
+        if (config.performance().virtualThreads()) {
+            return virtualThreadExecutor("geo", config.performance().virtualThreadConcurrency(), meterRegistry);
+        }
+        return boundedExecutor("geo", threads(config) * 2, config.performance().queueCapacity(),
+                new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+    }
+
+    static ThreadPoolTaskExecutor boundedExecutor(String name, int threads, int queueCapacity,
+                                                  RejectedExecutionHandler policy, MeterRegistry meterRegistry) {
+        Counter saturated = Counter.builder("processing.executor.saturated")
+                .description("Tasks that found the executor full (waited, ran on the caller or were rejected)")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            saturated.increment();
+            policy.rejectedExecution(task, pool);
+        });
+        executor.setTaskDecorator(ExecutorConfig::withMdc);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        Gauge.builder("processing.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Tasks waiting in the executor queue")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("processing.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Executor threads currently running a task")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("processing.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Threads started by the executor")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * One virtual thread per task, at most {@code concurrency} in flight. Submitting beyond that throws
+     * {@link RejectedExecutionException} rather than waiting, since submitters include event-loop threads
+     * (Reactor schedulers, the Elasticsearch client) that must never block.
+     * Exports the queued, active and saturated meters of the platform pools (nothing is ever queued).
+     */
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(String name, int concurrency, MeterRegistry meterRegistry) {
+        Counter saturated = Counter.builder("processing.executor.saturated")
+                .description("Tasks that found the executor full (waited, ran on the caller or were rejected)")
+                .tag("executor", name)
+                .register(meterRegistry);
+        int limit = Math.max(1, concurrency);
+        Semaphore permits = new Semaphore(limit);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-vt-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000);
+        executor.setTaskDecorator(task -> {
+            // Decoration happens on the submitter, before a thread is started
+            if (!permits.tryAcquire()) {
+                saturated.increment();
+                throw new RejectedExecutionException(
+                        "Executor '" + name + "' already has " + limit + " tasks in flight");
+            }
+            Runnable withContext = withMdc(task);
+            return () -> {
+                try {
+                    withContext.run();
+                } finally {
+                    permits.release();
+                }
+            };
+        });
+
+        Gauge.builder("processing.executor.queued", () -> 0)
+                .description("Tasks waiting in the executor queue")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("processing.executor.active", permits, available -> limit - available.availablePermits())
+                .description("Executor threads currently running a task")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * Wait for queue space instead of running the task on the submitter. Rejects once the pool is shut down.
+     */
+    static RejectedExecutionHandler blockingHandoff() {
+        return (task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Executor is shut down");
+            }
+            try {
+                pool.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for executor queue space", e);
+            }
+        };
+    }
+
+    private static int threads(ProcessingConfig config) {
+        return Math.max(1, config.performance().threadPoolSize());
+    }
+
+    /**
+     * Carry the submitter's MDC (correlation id) onto the worker, restoring the worker's own afterwards
+     * since caller-runs executes on the submitting thread
+     */
+    private static Runnable withMdc(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContext(context);
+            try {
+                task.run();
+            } finally {
+                setContext(previous);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+    }
+}
@@ -1,24 +1,46 @@
 package io.conflictradar.processing.config;
 
 import io.conflictradar.processing.dto.input.NewsIngestedEvent;
+import io.conflictradar.processing.service.kafka.OffsetCommitCoordinator;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 @EnableKafka
 public class KafkaConsumerConfig {
+
+    /**
+     * Failed articles move through news-ingested-retry-0..n and end on news-ingested-dlt
+     */
+    public static final String RETRY_TOPIC_SUFFIX = "-retry";
+    public static final String DLT_SUFFIX = "-dlt";
+
+    /**
+     * How often an idle container reports in, so offsets confirmed after the last delivery still get committed
+     */
+    private static final Duration IDLE_COMMIT_INTERVAL = Duration.ofSeconds(5);
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -28,6 +50,9 @@ public class KafkaConsumerConfig {
     @Value("${processing.kafka.max-poll-records}")
     private int maxPollRecords;
 
+    @Value("${processing.performance.virtual-threads:false}")
+    private boolean virtualThreads;
+
     @Bean
     public ConsumerFactory<String, NewsIngestedEvent> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -37,9 +62,12 @@ public class KafkaConsumerConfig {
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 
-        // Serialization
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // Serialization; a record that fails to deserialize reaches the error handler (and the DLT)
+        // instead of failing every poll of its partition
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
 
         // Performance tuning
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
@@ -59,21 +87,74 @@ public class KafkaConsumerConfig {
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
+    /**
+     * Publishes a record to the dead-letter topic of its source topic (retry topics included)
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, NewsIngestedEvent> kafkaListenerContainerFactory() {
+    public DeadLetterPublishingRecoverer deadLetterRecoverer(KafkaTemplate<?, ?> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(deadLetterTopic(record.topic()), -1));
+    }
+
+    static String deadLetterTopic(String topic) {
+        int retrySuffix = topic.lastIndexOf(RETRY_TOPIC_SUFFIX);
+        return (retrySuffix > 0 ? topic.substring(0, retrySuffix) : topic) + DLT_SUFFIX;
+    }
+
+    /**
+     * Single-record factory. Failed records are routed by the retry topics configured on the listener.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, NewsIngestedEvent> kafkaListenerContainerFactory(
+            OffsetCommitCoordinator offsetCoordinator) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler();
+        errorHandler.setAckAfterHandle(false);
+        errorHandler.setRetryListeners(offsetCoordinator);
+        return createListenerContainerFactory(false, errorHandler, offsetCoordinator);
+    }
+
+    /**
+     * Batch-capable factory: the listener receives the whole poll (up to max-poll-records).
+     * Retry topics don't apply to batch listeners; articles that fail are dead-lettered by the listener.
+     * If the listener itself throws, the poll is retried in place a couple of times and then dead-lettered.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, NewsIngestedEvent> batchKafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterRecoverer, OffsetCommitCoordinator offsetCoordinator) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterRecoverer, new FixedBackOff(1000L, 2));
+        errorHandler.setAckAfterHandle(false);
+        // Records the handler dead-letters are released like the ones the listener dead-letters
+        errorHandler.setRetryListeners(offsetCoordinator);
+        return createListenerContainerFactory(true, errorHandler, offsetCoordinator);
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, NewsIngestedEvent> createListenerContainerFactory(
+            boolean batchListener, CommonErrorHandler errorHandler, OffsetCommitCoordinator offsetCoordinator) {
         ConcurrentKafkaListenerContainerFactory<String, NewsIngestedEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
         factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(batchListener);
 
         // Concurrency settings
         factory.setConcurrency(2); // 2 threads for parallel processing
 
-        // Manual acknowledgment mode
+        // Consumer threads mostly wait on the pipeline; park them on virtual threads when enabled
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor =
+                    new SimpleAsyncTaskExecutor(batchListener ? "kafka-batch-vt-" : "kafka-vt-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+
+        // Manual acknowledgment mode. Article offsets are committed by the coordinator once indexing is durable,
+        // so error handlers must not commit past records that are still pending.
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setConsumerRebalanceListener(offsetCoordinator);
+        factory.getContainerProperties().setIdleEventInterval(IDLE_COMMIT_INTERVAL.toMillis());
 
         // Error handling
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        factory.setCommonErrorHandler(errorHandler);
 
         // Observation and metrics
         factory.getContainerProperties().setObservationEnabled(true);
@@ -0,0 +1,30 @@
+package io.conflictradar.processing.config;
+
+import io.conflictradar.processing.service.kafka.OffsetCommitCoordinator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+
+/**
+ * Retry topic infrastructure (in place of @EnableKafkaRetryTopic).
+ * Forwarding a failed record to the next retry topic must not commit its offset: earlier records of the
+ * partition may still be waiting for Elasticsearch, and their offsets are committed by the OffsetCommitCoordinator,
+ * which learns about each forwarded record through the error handler's retry listener.
+ */
+@Configuration
+public class KafkaRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+    private final ObjectProvider<OffsetCommitCoordinator> offsetCoordinator;
+
+    public KafkaRetryTopicConfig(ObjectProvider<OffsetCommitCoordinator> offsetCoordinator) {
+        this.offsetCoordinator = offsetCoordinator;
+    }
+
+    @Override
+    protected void configureCustomizers(CustomizersConfigurer customizersConfigurer) {
+        customizersConfigurer.customizeErrorHandler(errorHandler -> {
+            errorHandler.setAckAfterHandle(false);
+            errorHandler.setRetryListeners(offsetCoordinator.getObject());
+        });
+    }
+}
@@ -6,11 +6,13 @@ import java.util.List;
 public record NlpConfig(
         Stanford stanford,
         Geographic geographic,
-        Sentiment sentiment
+        Sentiment sentiment,
+        FastPath fastPath
 ) {
     public record Stanford(
             String modelsPath,
-            List<String> annotators,
+            String profile,             // "entities" (derived minimal chain) or "full"
+            List<String> annotators,    // explicit chain, overrides the profile
             int timeout,
             boolean enableCache
     ) {}
@@ -19,7 +21,23 @@ public record NlpConfig(
             String geonamesApiKey,
             String geonamesBaseUrl,
             Duration cacheTtl,
-            int maxRetries
+            int maxRetries,
+            Duration resolutionTimeout,
+            int maxConnections,
+            double requestsPerSecond,
+            List<String> gazetteerFiles,
+            String gazetteerBinary,
+            List<String> gazetteerFeatureClasses,
+            boolean remoteFallback
+    ) {}
+
+    /**
+     * Dictionary tier in front of CoreNLP; texts it cannot account for fall through to the full pipeline
+     */
+    public record FastPath(
+            boolean enabled,
+            double minCoverage,
+            double minConfidence
     ) {}
 
     public record Sentiment(
@@ -6,5 +6,7 @@ public record PerformanceConfig(
         int threadPoolSize,
         int queueCapacity,
         Duration processingTimeout,
-        boolean enableMetrics
+        boolean enableMetrics,
+        boolean virtualThreads,         // run the I/O-bound executors and Kafka listeners on virtual threads
+        int virtualThreadConcurrency    // in-flight limit per virtual-thread executor
 ) {}
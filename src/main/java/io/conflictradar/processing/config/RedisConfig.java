@@ -1,5 +1,11 @@
 package io.conflictradar.processing.config;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.conflictradar.processing.cache.TwoLevelCacheManager;
+import io.conflictradar.processing.service.geo.GeoNamesService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -10,6 +16,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -22,8 +29,14 @@ import java.util.Map;
 @EnableCaching
 @ConditionalOnProperty(name = "processing.nlp.stanford.enable-cache", havingValue = "true", matchIfMissing = true)
 public class RedisConfig {
+    @Value("${processing.cache.local.maximum-size:10000}")
+    private long localCacheMaximumSize;
+
+    @Value("${processing.cache.local.ttl:PT5M}")
+    private Duration localCacheTtl;
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, MeterRegistry meterRegistry) {
 
         // Default cache configuration
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -40,18 +53,27 @@ public class RedisConfig {
         cacheConfigurations.put("entityExtraction",
                 defaultConfig.entryTtl(Duration.ofHours(24)));
 
-        // Geographic resolution cache - 7 days (rarely changes)
+        // Geographic resolution cache - 7 days (rarely changes). Values are read back as GeoLocation;
+        // the generic serializer carries no type for records and would return a Map
         cacheConfigurations.put("geoResolution",
-                defaultConfig.entryTtl(Duration.ofDays(7)));
+                defaultConfig.entryTtl(Duration.ofDays(7))
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair
+                                .fromSerializer(new Jackson2JsonRedisSerializer<>(
+                                        new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES),
+                                        GeoNamesService.GeoLocation.class))));
 
         // Sentiment analysis cache - 12 hours (moderately expensive)
         cacheConfigurations.put("sentimentAnalysis",
                 defaultConfig.entryTtl(Duration.ofHours(12)));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        // In-heap L1 in front of Redis - hot keys never leave the JVM
+        return new TwoLevelCacheManager(redisCacheManager, localCacheMaximumSize, localCacheTtl, meterRegistry);
     }
 
     @Bean
@@ -2,6 +2,8 @@ package io.conflictradar.processing.dto.input;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.conflictradar.processing.lexicon.ConflictLexicons;
+import io.conflictradar.processing.lexicon.ConflictMatcher;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -32,8 +34,8 @@ public record NewsIngestedEvent(
      * Check if article contains critical keywords
      */
     public boolean isCritical() {
-        return conflictKeywords.stream()
-                .anyMatch(keyword -> Set.of("nuclear", "terrorism", "genocide").contains(keyword.toLowerCase()));
+        ConflictMatcher matcher = ConflictLexicons.matcher();
+        return conflictKeywords.stream().anyMatch(matcher::isCriticalKeyword);
     }
 
     /**
@@ -1,29 +1,140 @@
 package io.conflictradar.processing.dto.nlp;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
- * Result of entity extraction from text
+ * Result of entity extraction from text.
+ * Immutable; the per-type partitions, conflict flags and scores are computed once, in one pass, at construction.
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
-public record EntityExtractionResult(
-        @JsonProperty("entities") List<ExtractedEntity> entities,
-        @JsonProperty("processingTimeMs") long processingTimeMs,
-        @JsonProperty("overallConfidence") double overallConfidence
-) {
+public final class EntityExtractionResult {
+
+    private static final ExtractedEntity.EntityType[] TYPES = ExtractedEntity.EntityType.values();
+
+    private static final ExtractedEntity.EntityType[] TYPES_BY_PRIORITY = Arrays.stream(TYPES)
+            .sorted(Comparator.comparingInt(ExtractedEntity.EntityType::getConflictPriority).reversed())
+            .toArray(ExtractedEntity.EntityType[]::new);
+
+    private static final EntityExtractionResult EMPTY = new EntityExtractionResult(List.of(), 0, 0.0);
+
+    private final List<ExtractedEntity> entities;
+    private final long processingTimeMs;
+    private final double overallConfidence;
+
+    // Indexed by EntityType ordinal
+    private final List<ExtractedEntity>[] entitiesByType;
+    private final List<ExtractedEntity>[] conflictRelevantByType;
+
+    private final Map<ExtractedEntity.EntityType, List<ExtractedEntity>> entitiesByTypeMap;
+    private final List<ExtractedEntity> conflictRelevantEntities;
+    private final boolean highPriorityConflictEntities;
+    private final double conflictRelevanceScore;
+    private final EntityExtractionSummary summary;
+
+    @JsonCreator
+    @SuppressWarnings("unchecked")
+    public EntityExtractionResult(
+            @JsonProperty("entities") List<ExtractedEntity> entities,
+            @JsonProperty("processingTimeMs") long processingTimeMs,
+            @JsonProperty("overallConfidence") double overallConfidence
+    ) {
+        this.entities = entities == null ? List.of() : List.copyOf(entities);
+        this.processingTimeMs = processingTimeMs;
+        this.overallConfidence = overallConfidence;
+
+        List<ExtractedEntity>[] byType = new List[TYPES.length];
+        List<ExtractedEntity>[] relevantByType = new List[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            byType[i] = new ArrayList<>();
+            relevantByType[i] = new ArrayList<>();
+        }
+
+        int conflictRelevantCount = 0;
+        int prioritySum = 0;
+        boolean highPriority = false;
+
+        for (ExtractedEntity entity : this.entities) {
+            int ordinal = entity.type().ordinal();
+            byType[ordinal].add(entity);
+
+            if (entity.isConflictRelevant()) {
+                int priority = entity.type().getConflictPriority();
+                relevantByType[ordinal].add(entity);
+                conflictRelevantCount++;
+                prioritySum += priority;
+                highPriority |= priority >= 2;
+            }
+        }
+
+        Map<ExtractedEntity.EntityType, List<ExtractedEntity>> byTypeMap = new EnumMap<>(ExtractedEntity.EntityType.class);
+        for (int i = 0; i < TYPES.length; i++) {
+            byType[i] = Collections.unmodifiableList(byType[i]);
+            relevantByType[i] = Collections.unmodifiableList(relevantByType[i]);
+            if (!byType[i].isEmpty()) {
+                byTypeMap.put(TYPES[i], byType[i]);
+            }
+        }
+        this.entitiesByType = byType;
+        this.conflictRelevantByType = relevantByType;
+        this.entitiesByTypeMap = Collections.unmodifiableMap(byTypeMap);
+
+        // Priority is fixed per type, so concatenating by type is a stable sort by priority
+        List<ExtractedEntity> relevant = new ArrayList<>(conflictRelevantCount);
+        for (ExtractedEntity.EntityType type : TYPES_BY_PRIORITY) {
+            relevant.addAll(relevantByType[type.ordinal()]);
+        }
+        this.conflictRelevantEntities = Collections.unmodifiableList(relevant);
+        this.highPriorityConflictEntities = highPriority;
+
+        if (this.entities.isEmpty()) {
+            this.conflictRelevanceScore = 0.0;
+        } else {
+            double conflictEntityRatio = (double) conflictRelevantCount / this.entities.size();
+            double priorityBonus = (double) prioritySum / this.entities.size() * 0.1;
+            this.conflictRelevanceScore = Math.min(conflictEntityRatio + priorityBonus, 1.0);
+        }
+
+        this.summary = new EntityExtractionSummary(
+                this.entities.size(),
+                count(ExtractedEntity.EntityType.PERSON),
+                count(ExtractedEntity.EntityType.ORGANIZATION),
+                count(ExtractedEntity.EntityType.LOCATION),
+                conflictRelevantCount,
+                conflictRelevanceScore,
+                overallConfidence,
+                processingTimeMs
+        );
+    }
+
+    private int count(ExtractedEntity.EntityType type) {
+        return entitiesByType[type.ordinal()].size();
+    }
 
     /**
      * Create empty result for error cases
      */
     public static EntityExtractionResult empty() {
-        return new EntityExtractionResult(Collections.emptyList(), 0, 0.0);
+        return EMPTY;
+    }
+
+    @JsonProperty("entities")
+    public List<ExtractedEntity> entities() {
+        return entities;
+    }
+
+    @JsonProperty("processingTimeMs")
+    public long processingTimeMs() {
+        return processingTimeMs;
+    }
+
+    @JsonProperty("overallConfidence")
+    public double overallConfidence() {
+        return overallConfidence;
     }
 
     /**
@@ -31,19 +142,23 @@ public record EntityExtractionResult(
      */
     @JsonIgnore
     public Map<ExtractedEntity.EntityType, List<ExtractedEntity>> getEntitiesByType() {
-        return entities.stream()
-                .collect(Collectors.groupingBy(ExtractedEntity::type));
+        return entitiesByTypeMap;
     }
 
     /**
-     * Get only conflict-relevant entities
+     * Get only conflict-relevant entities, highest priority first
      */
     @JsonIgnore
     public List<ExtractedEntity> getConflictRelevantEntities() {
-        return entities.stream()
-                .filter(ExtractedEntity::isConflictRelevant)
-                .sorted((a, b) -> Integer.compare(b.getConflictPriority(), a.getConflictPriority()))
-                .collect(Collectors.toList());
+        return conflictRelevantEntities;
+    }
+
+    /**
+     * Get conflict-relevant entities of one type
+     */
+    @JsonIgnore
+    public List<ExtractedEntity> getConflictRelevantEntities(ExtractedEntity.EntityType type) {
+        return conflictRelevantByType[type.ordinal()];
     }
 
     /**
@@ -51,9 +166,7 @@ public record EntityExtractionResult(
      */
     @JsonIgnore
     public List<ExtractedEntity> getPersons() {
-        return entities.stream()
-                .filter(entity -> entity.type() == ExtractedEntity.EntityType.PERSON)
-                .collect(Collectors.toList());
+        return entitiesByType[ExtractedEntity.EntityType.PERSON.ordinal()];
     }
 
     /**
@@ -61,9 +174,7 @@ public record EntityExtractionResult(
      */
     @JsonIgnore
     public List<ExtractedEntity> getOrganizations() {
-        return entities.stream()
-                .filter(entity -> entity.type() == ExtractedEntity.EntityType.ORGANIZATION)
-                .collect(Collectors.toList());
+        return entitiesByType[ExtractedEntity.EntityType.ORGANIZATION.ordinal()];
     }
 
     /**
@@ -71,9 +182,7 @@ public record EntityExtractionResult(
      */
     @JsonIgnore
     public List<ExtractedEntity> getLocations() {
-        return entities.stream()
-                .filter(entity -> entity.type() == ExtractedEntity.EntityType.LOCATION)
-                .collect(Collectors.toList());
+        return entitiesByType[ExtractedEntity.EntityType.LOCATION.ordinal()];
     }
 
     /**
@@ -81,43 +190,44 @@ public record EntityExtractionResult(
      */
     @JsonIgnore
     public boolean hasHighPriorityConflictEntities() {
-        return entities.stream()
-                .anyMatch(entity -> entity.isConflictRelevant() && entity.getConflictPriority() >= 2);
+        return highPriorityConflictEntities;
     }
 
     /**
      * Calculate conflict relevance score
      */
     public double getConflictRelevanceScore() {
-        if (entities.isEmpty()) {
-            return 0.0;
-        }
-
-        double conflictEntityRatio = (double) getConflictRelevantEntities().size() / entities.size();
-        double priorityBonus = entities.stream()
-                .mapToInt(ExtractedEntity::getConflictPriority)
-                .average()
-                .orElse(0.0) * 0.1;
-
-        return Math.min(conflictEntityRatio + priorityBonus, 1.0);
+        return conflictRelevanceScore;
     }
 
     /**
      * Get summary statistics
      */
     public EntityExtractionSummary getSummary() {
-        Map<ExtractedEntity.EntityType, List<ExtractedEntity>> byType = getEntitiesByType();
-
-        return new EntityExtractionSummary(
-                entities.size(),
-                byType.getOrDefault(ExtractedEntity.EntityType.PERSON, Collections.emptyList()).size(),
-                byType.getOrDefault(ExtractedEntity.EntityType.ORGANIZATION, Collections.emptyList()).size(),
-                byType.getOrDefault(ExtractedEntity.EntityType.LOCATION, Collections.emptyList()).size(),
-                getConflictRelevantEntities().size(),
-                getConflictRelevanceScore(),
-                overallConfidence,
-                processingTimeMs
-        );
+        return summary;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof EntityExtractionResult other
+                && processingTimeMs == other.processingTimeMs
+                && Double.compare(overallConfidence, other.overallConfidence) == 0
+                && entities.equals(other.entities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entities, processingTimeMs, overallConfidence);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityExtractionResult[entities=" + entities
+                + ", processingTimeMs=" + processingTimeMs
+                + ", overallConfidence=" + overallConfidence + "]";
     }
 
     /**
@@ -133,4 +243,4 @@ public record EntityExtractionResult(
             @JsonProperty("overallConfidence") double overallConfidence,
             @JsonProperty("processingTimeMs") long processingTimeMs
     ) {}
-}
\ No newline at end of file
+}
@@ -2,8 +2,8 @@ package io.conflictradar.processing.dto.nlp;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
-import java.util.Set;
+import io.conflictradar.processing.lexicon.ConflictLexicons;
+import io.conflictradar.processing.lexicon.ConflictMatcher;
 
 /**
  * Represents a named entity extracted from text
@@ -19,23 +19,25 @@ public record ExtractedEntity(
 
     public enum EntityType {
         @JsonProperty("PERSON")
-        PERSON("PERSON", "Political leaders, military commanders, journalists"),
+        PERSON("PERSON", "Political leaders, military commanders, journalists", 3),
 
         @JsonProperty("ORGANIZATION")
-        ORGANIZATION("ORGANIZATION", "Governments, military units, terrorist groups, NGOs"),
+        ORGANIZATION("ORGANIZATION", "Governments, military units, terrorist groups, NGOs", 2),
 
         @JsonProperty("LOCATION")
-        LOCATION("LOCATION", "Countries, cities, regions, geographic areas"),
+        LOCATION("LOCATION", "Countries, cities, regions, geographic areas", 1),
 
         @JsonProperty("OTHER")
-        OTHER("OTHER", "Other named entities");
+        OTHER("OTHER", "Other named entities", 0);
 
         private final String code;
         private final String description;
+        private final int conflictPriority;
 
-        EntityType(String code, String description) {
+        EntityType(String code, String description, int conflictPriority) {
             this.code = code;
             this.description = description;
+            this.conflictPriority = conflictPriority;
         }
 
         public String getCode() {
@@ -45,48 +47,30 @@ public record ExtractedEntity(
         public String getDescription() {
             return description;
         }
+
+        /**
+         * Priority of a conflict-relevant entity of this type (persons are key actors)
+         */
+        public int getConflictPriority() {
+            return conflictPriority;
+        }
     }
 
     /**
      * Check if this entity is likely to be conflict-related
      */
     public boolean isConflictRelevant() {
-        String lowerText = text.toLowerCase();
-
-        // Military/political organizations
-        if (type == EntityType.ORGANIZATION) {
-            return lowerText.contains("military") ||
-                    lowerText.contains("army") ||
-                    lowerText.contains("nato") ||
-                    lowerText.contains("un") ||
-                    lowerText.contains("security council") ||
-                    lowerText.contains("pentagon") ||
-                    lowerText.contains("ministry of defense");
-        }
-
-        // Political leaders
-        if (type == EntityType.PERSON) {
-            return lowerText.contains("president") ||
-                    lowerText.contains("minister") ||
-                    lowerText.contains("general") ||
-                    lowerText.contains("commander");
-        }
-
-        // Conflict zones
-        if (type == EntityType.LOCATION) {
-            return isConflictZone(lowerText);
-        }
-
-        return false;
-    }
+        int categories = ConflictLexicons.matcher().classify(text);
 
-    private boolean isConflictZone(String location) {
-        // Known conflict/tension areas (this could be externalized to config)
-        return Set.of(
-                "ukraine", "russia", "syria", "afghanistan", "iraq",
-                "gaza", "israel", "palestine", "kashmir", "taiwan",
-                "south china sea", "crimea", "donetsk", "donbass"
-        ).stream().anyMatch(location::contains);
+        return switch (type) {
+            // Military/political organizations
+            case ORGANIZATION -> (categories & ConflictMatcher.ORGANIZATION_MARKER) != 0;
+            // Political leaders
+            case PERSON -> (categories & ConflictMatcher.ROLE_TITLE) != 0;
+            // Conflict zones
+            case LOCATION -> (categories & (ConflictMatcher.ZONE | ConflictMatcher.CITY)) != 0;
+            case OTHER -> false;
+        };
     }
 
     /**
@@ -97,18 +81,6 @@ public record ExtractedEntity(
             return 0;
         }
 
-        return switch (type) {
-            case PERSON -> 3;        // High priority - key actors
-            case ORGANIZATION -> 2;  // Medium priority - institutions
-            case LOCATION -> 1;      // Lower priority - geography
-            case OTHER -> 0;
-        };
+        return type.getConflictPriority();
     }
-
-    private static final Set<String> CONFLICT_ZONES = Set.of(
-            "ukraine", "russia", "syria", "afghanistan", "iraq",
-            "gaza", "israel", "palestine", "kashmir", "taiwan",
-            "south china sea", "crimea", "donetsk", "donbass",
-            "lebanon", "yemen", "somalia", "sudan", "myanmar"
-    );
 }
\ No newline at end of file
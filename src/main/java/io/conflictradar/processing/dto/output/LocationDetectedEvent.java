@@ -2,10 +2,11 @@ package io.conflictradar.processing.dto.output;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.conflictradar.processing.lexicon.ConflictLexicons;
+import io.conflictradar.processing.lexicon.ConflictMatcher;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 public record LocationDetectedEvent(
         @JsonProperty("eventId") String eventId,
@@ -22,11 +23,9 @@ public record LocationDetectedEvent(
                                                String coordinates, List<String> allLocations,
                                                double confidence) {
         // Identify conflict zones
-        Set<String> knownConflictZones = Set.of("ukraine", "russia", "syria", "afghanistan",
-                "gaza", "israel", "palestine", "taiwan", "kashmir");
+        ConflictMatcher matcher = ConflictLexicons.matcher();
         List<String> conflictZones = allLocations.stream()
-                .filter(loc -> knownConflictZones.stream()
-                        .anyMatch(zone -> loc.toLowerCase().contains(zone)))
+                .filter(matcher::isConflictLocation)
                 .toList();
 
         return new LocationDetectedEvent(
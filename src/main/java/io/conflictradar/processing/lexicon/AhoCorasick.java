@@ -0,0 +1,120 @@
+package io.conflictradar.processing.lexicon;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton compiled to a dense DFA over the pattern alphabet.
+ * One left-to-right pass over the text returns the OR of the labels of every pattern occurring in it
+ * (substring semantics, case-insensitive).
+ */
+final class AhoCorasick {
+
+    private final int[] symbols;       // char -> alphabet symbol, 0 for chars outside every pattern
+    private final int alphabetSize;
+    private final int[] transitions;   // state * alphabetSize + symbol -> next state
+    private final int[] labels;        // labels of all patterns ending in a state, suffixes included
+
+    private AhoCorasick(int[] symbols, int alphabetSize, int[] transitions, int[] labels) {
+        this.symbols = symbols;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.labels = labels;
+    }
+
+    /**
+     * Build from patterns mapped to a label bitmask; a pattern listed under several labels gets all of them
+     */
+    static AhoCorasick build(Map<String, Integer> patterns) {
+        int maxChar = 0;
+        for (String pattern : patterns.keySet()) {
+            for (int i = 0; i < pattern.length(); i++) {
+                maxChar = Math.max(maxChar, Character.toLowerCase(pattern.charAt(i)));
+            }
+        }
+
+        int[] symbols = new int[maxChar + 1];
+        int alphabetSize = 1;
+        List<Map<Integer, Integer>> trie = new ArrayList<>();
+        List<Integer> trieLabels = new ArrayList<>();
+        trie.add(new HashMap<>());
+        trieLabels.add(0);
+
+        for (Map.Entry<String, Integer> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = Character.toLowerCase(pattern.charAt(i));
+                if (symbols[c] == 0) {
+                    symbols[c] = alphabetSize++;
+                }
+                Integer next = trie.get(state).get(symbols[c]);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    trieLabels.add(0);
+                    trie.get(state).put(symbols[c], next);
+                }
+                state = next;
+            }
+            trieLabels.set(state, trieLabels.get(state) | entry.getValue());
+        }
+
+        int states = trie.size();
+        int[] transitions = new int[states * alphabetSize];
+        int[] labels = new int[states];
+        int[] fail = new int[states];
+        for (int s = 0; s < states; s++) {
+            labels[s] = trieLabels.get(s);
+        }
+
+        // Breadth-first, so a state's failure target is complete before the state itself
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (Map.Entry<Integer, Integer> child : trie.get(0).entrySet()) {
+            transitions[child.getKey()] = child.getValue();
+            queue.add(child.getValue());
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            labels[state] |= labels[fail[state]];
+
+            Map<Integer, Integer> children = trie.get(state);
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                Integer child = children.get(symbol);
+                int fallback = transitions[fail[state] * alphabetSize + symbol];
+                if (child != null) {
+                    fail[child] = fallback;
+                    transitions[state * alphabetSize + symbol] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * alphabetSize + symbol] = fallback;
+                }
+            }
+        }
+
+        return new AhoCorasick(symbols, alphabetSize, transitions, labels);
+    }
+
+    /**
+     * Labels of every pattern occurring anywhere in the text
+     */
+    int scan(CharSequence text) {
+        int state = 0;
+        int found = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int symbol = c < symbols.length ? symbols[c] : 0;
+            state = transitions[state * alphabetSize + symbol];
+            found |= labels[state];
+        }
+        return found;
+    }
+
+    int stateCount() {
+        return labels.length;
+    }
+}
@@ -0,0 +1,53 @@
+package io.conflictradar.processing.lexicon;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Conflict vocabulary shared by entity relevance, geographic resolution and event enrichment
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ConflictLexicon(
+        @JsonProperty("version") int version,
+        @JsonProperty("conflictZones") List<String> conflictZones,       // countries and regions
+        @JsonProperty("conflictCities") List<String> conflictCities,
+        @JsonProperty("organizationMarkers") List<String> organizationMarkers,
+        @JsonProperty("roleTitles") List<String> roleTitles,
+        @JsonProperty("criticalKeywords") List<String> criticalKeywords
+) {
+    public static final String DEFAULT_RESOURCE = "lexicon/conflict-lexicon.json";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ConflictLexicon {
+        conflictZones = conflictZones == null ? List.of() : List.copyOf(conflictZones);
+        conflictCities = conflictCities == null ? List.of() : List.copyOf(conflictCities);
+        organizationMarkers = organizationMarkers == null ? List.of() : List.copyOf(organizationMarkers);
+        roleTitles = roleTitles == null ? List.of() : List.copyOf(roleTitles);
+        criticalKeywords = criticalKeywords == null ? List.of() : List.copyOf(criticalKeywords);
+    }
+
+    public static ConflictLexicon read(InputStream input) throws IOException {
+        return objectMapper.readValue(input, ConflictLexicon.class);
+    }
+
+    /**
+     * The lexicon bundled with the service
+     */
+    public static ConflictLexicon loadDefault() {
+        try (InputStream input = ConflictLexicon.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing classpath resource " + DEFAULT_RESOURCE);
+            }
+            return read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + DEFAULT_RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.conflictradar.processing.lexicon;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Loads the conflict lexicon from a file on disk and reloads it when the file changes.
+ * A background thread compiles the new matcher and swaps it in; consumers keep classifying throughout.
+ * Without a configured file the bundled lexicon stays in use.
+ */
+@Component
+public class ConflictLexiconWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConflictLexiconWatcher.class);
+
+    private static final long DEBOUNCE_MS = 250;
+
+    @Value("${processing.lexicon.file:}")
+    private String lexiconFile;
+
+    @Value("${processing.lexicon.watch:true}")
+    private boolean watch;
+
+    private volatile WatchService watchService;
+    private Path file;
+    private FileTime loadedModifiedTime;
+    private long loadedSize = -1;
+
+    @PostConstruct
+    public void start() {
+        if (!StringUtils.hasText(lexiconFile)) {
+            logger.info("No conflict lexicon file configured, using bundled lexicon v{}",
+                    ConflictLexicons.matcher().version());
+            return;
+        }
+
+        file = Path.of(lexiconFile).toAbsolutePath();
+        reload();
+
+        if (watch) {
+            try {
+                watchService = file.getFileSystem().newWatchService();
+                // Watch the directory: editors and ConfigMap mounts replace the file rather than write to it
+                file.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+                Thread watcher = new Thread(this::watchLoop, "lexicon-watcher");
+                watcher.setDaemon(true);
+                watcher.start();
+            } catch (IOException e) {
+                logger.error("Cannot watch conflict lexicon {}, changes need a restart: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+
+                // Let a burst of events from one save settle before reading the file
+                TimeUnit.MILLISECONDS.sleep(DEBOUNCE_MS);
+                key.pollEvents();
+                key.reset();
+
+                reload();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.debug("Conflict lexicon watcher stopped");
+        }
+    }
+
+    /**
+     * Compile the file's lexicon and swap it in if the file changed; a broken file keeps the current matcher
+     */
+    synchronized void reload() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().equals(loadedModifiedTime) && attributes.size() == loadedSize) {
+                return;
+            }
+
+            ConflictLexicon lexicon;
+            try (InputStream input = Files.newInputStream(file)) {
+                lexicon = ConflictLexicon.read(input);
+            }
+            ConflictMatcher previous = ConflictLexicons.install(ConflictMatcher.compile(lexicon));
+
+            loadedModifiedTime = attributes.lastModifiedTime();
+            loadedSize = attributes.size();
+
+            logger.info("Loaded conflict lexicon v{} from {} (was v{}): {} zones, {} cities, {} organization markers, {} roles",
+                    lexicon.version(), file, previous.version(), lexicon.conflictZones().size(),
+                    lexicon.conflictCities().size(), lexicon.organizationMarkers().size(), lexicon.roleTitles().size());
+
+        } catch (NoSuchFileException e) {
+            logger.warn("Conflict lexicon {} not found, keeping v{}", file, ConflictLexicons.matcher().version());
+        } catch (Exception e) {
+            logger.error("Failed to load conflict lexicon {}, keeping v{}: {}",
+                    file, ConflictLexicons.matcher().version(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.conflictradar.processing.lexicon;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Process-wide current conflict matcher.
+ * DTOs classify through it without injection; readers never lock, replacements are a single reference swap.
+ */
+public final class ConflictLexicons {
+
+    private static final AtomicReference<ConflictMatcher> CURRENT =
+            new AtomicReference<>(ConflictMatcher.compile(ConflictLexicon.loadDefault()));
+
+    private ConflictLexicons() {
+    }
+
+    public static ConflictMatcher matcher() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Replace the current matcher, returning the previous one
+     */
+    public static ConflictMatcher install(ConflictMatcher matcher) {
+        return CURRENT.getAndSet(matcher);
+    }
+}
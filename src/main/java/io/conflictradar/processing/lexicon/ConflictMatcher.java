@@ -0,0 +1,86 @@
+package io.conflictradar.processing.lexicon;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled form of a {@link ConflictLexicon}.
+ * All terms are matched in a single automaton pass; classifications are cached per text.
+ */
+public final class ConflictMatcher {
+
+    public static final int ZONE = 1;
+    public static final int CITY = 1 << 1;
+    public static final int ORGANIZATION_MARKER = 1 << 2;
+    public static final int ROLE_TITLE = 1 << 3;
+
+    private static final int CLASSIFICATION_CACHE_SIZE = 50_000;
+
+    private final int version;
+    private final AhoCorasick automaton;
+    private final Set<String> criticalKeywords;
+    private final Cache<String, Integer> classifications = Caffeine.newBuilder()
+            .maximumSize(CLASSIFICATION_CACHE_SIZE)
+            .build();
+
+    private ConflictMatcher(int version, AhoCorasick automaton, Set<String> criticalKeywords) {
+        this.version = version;
+        this.automaton = automaton;
+        this.criticalKeywords = criticalKeywords;
+    }
+
+    public static ConflictMatcher compile(ConflictLexicon lexicon) {
+        Map<String, Integer> patterns = new HashMap<>();
+        addPatterns(patterns, lexicon.conflictZones(), ZONE);
+        addPatterns(patterns, lexicon.conflictCities(), CITY);
+        addPatterns(patterns, lexicon.organizationMarkers(), ORGANIZATION_MARKER);
+        addPatterns(patterns, lexicon.roleTitles(), ROLE_TITLE);
+
+        Set<String> critical = lexicon.criticalKeywords().stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new ConflictMatcher(lexicon.version(), AhoCorasick.build(patterns), critical);
+    }
+
+    private static void addPatterns(Map<String, Integer> patterns, List<String> terms, int label) {
+        for (String term : terms) {
+            patterns.merge(term.toLowerCase(Locale.ROOT), label, (a, b) -> a | b);
+        }
+    }
+
+    /**
+     * Bitmask of the lexicon categories occurring anywhere in the text
+     */
+    public int classify(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return classifications.get(text, automaton::scan);
+    }
+
+    /**
+     * Whether the name mentions a known conflict zone or city
+     */
+    public boolean isConflictLocation(String name) {
+        return (classify(name) & (ZONE | CITY)) != 0;
+    }
+
+    /**
+     * Whether a keyword is one of the critical keywords (exact, case-insensitive)
+     */
+    public boolean isCriticalKeyword(String keyword) {
+        return keyword != null && criticalKeywords.contains(keyword.toLowerCase(Locale.ROOT));
+    }
+
+    public int version() {
+        return version;
+    }
+}
@@ -0,0 +1,181 @@
+package io.conflictradar.processing.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the article pipeline: a latency histogram per stage,
+ * throughput counters and error counters by stage.
+ */
+@Component
+public class ProcessingMetrics {
+
+    /**
+     * Pipeline stages, tagged by their method name in ArticleProcessingService
+     */
+    public enum Stage {
+        EXTRACT_ENTITIES("extractEntities"),
+        ANALYZE_SENTIMENT("analyzeSentiment"),
+        RESOLVE_GEOGRAPHY("resolveGeography"),
+        INDEX_TO_ELASTICSEARCH("indexToElasticsearch"),
+        PUBLISH_ENHANCED_EVENTS("publishEnhancedEvents");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String tagValue() {
+            return tagValue;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<Stage, Counter> stageErrors = new EnumMap<>(Stage.class);
+    private final Timer articleTimer;
+    private final Counter articlesSucceeded;
+    private final Counter articlesFailed;
+    private final Counter articlesDeadLettered;
+    private final Counter entitiesExtracted;
+    private final Counter locationsResolved;
+
+    public ProcessingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("processing.stage.duration")
+                    .description("Latency of one article pipeline stage")
+                    .tag("stage", stage.tagValue())
+                    .publishPercentileHistogram()
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+            stageErrors.put(stage, Counter.builder("processing.stage.errors")
+                    .description("Failures of one article pipeline stage")
+                    .tag("stage", stage.tagValue())
+                    .register(meterRegistry));
+        }
+
+        this.articleTimer = Timer.builder("processing.article.duration")
+                .description("End-to-end processing latency of one article")
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.articlesSucceeded = articlesCounter("success");
+        this.articlesFailed = articlesCounter("failure");
+        this.articlesDeadLettered = articlesCounter("dead_lettered");
+        this.entitiesExtracted = Counter.builder("processing.entities")
+                .description("Entities extracted from articles")
+                .register(meterRegistry);
+        this.locationsResolved = Counter.builder("processing.locations")
+                .description("Locations resolved to coordinates")
+                .register(meterRegistry);
+    }
+
+    private Counter articlesCounter(String outcome) {
+        return Counter.builder("processing.articles")
+                .description("Articles taken through the pipeline")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Time a synchronous stage
+     */
+    public <T> T time(Stage stage, Supplier<T> action) {
+        return stageTimers.get(stage).record(action);
+    }
+
+    public void time(Stage stage, Runnable action) {
+        stageTimers.get(stage).record(action);
+    }
+
+    public void record(Stage stage, long durationMs) {
+        stageTimers.get(stage).record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start timing a stage that completes asynchronously; finish with {@link #stop}
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Stage stage, Timer.Sample sample) {
+        sample.stop(stageTimers.get(stage));
+    }
+
+    public void stageFailed(Stage stage) {
+        stageErrors.get(stage).increment();
+    }
+
+    public void articleProcessed(long durationMs, int entities, int locations) {
+        articleTimer.record(durationMs, TimeUnit.MILLISECONDS);
+        articlesSucceeded.increment();
+        entitiesExtracted.increment(entities);
+        locationsResolved.increment(locations);
+    }
+
+    /**
+     * One failed attempt; the article may still succeed on a retry topic
+     */
+    public void articleFailed() {
+        articlesFailed.increment();
+    }
+
+    /**
+     * Retries exhausted or failure not retryable; the article is parked on the dead-letter topic
+     */
+    public void articleDeadLettered() {
+        articlesDeadLettered.increment();
+    }
+
+    /**
+     * Summary of the live meters for the processing metrics endpoint
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            Timer timer = stageTimers.get(stage);
+            Map<String, Object> stageSummary = new LinkedHashMap<>();
+            stageSummary.put("count", timer.count());
+            stageSummary.put("meanMs", round(timer.mean(TimeUnit.MILLISECONDS)));
+            stageSummary.put("maxMs", round(timer.max(TimeUnit.MILLISECONDS)));
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                stageSummary.put("p" + Math.round(percentile.percentile() * 100) + "Ms",
+                        round(percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            stageSummary.put("errors", (long) stageErrors.get(stage).count());
+            stages.put(stage.tagValue(), stageSummary);
+        }
+
+        double succeeded = articlesSucceeded.count();
+        double failed = articlesFailed.count();
+        double total = succeeded + failed;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("articlesProcessed", (long) succeeded);
+        summary.put("articlesFailed", (long) failed);
+        summary.put("articlesDeadLettered", (long) articlesDeadLettered.count());
+        summary.put("entitiesExtracted", (long) entitiesExtracted.count());
+        summary.put("locationsResolved", (long) locationsResolved.count());
+        summary.put("averageProcessingTime", Math.round(articleTimer.mean(TimeUnit.MILLISECONDS)) + "ms");
+        summary.put("errorRate", String.format("%.1f%%", total == 0 ? 0.0 : failed / total * 100));
+        summary.put("stages", stages);
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,102 @@
+package io.conflictradar.processing.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams JFR pinning events while virtual threads are enabled. A virtual thread that blocks inside
+ * synchronized code or a native frame holds its carrier, which quietly caps I/O concurrency at the carrier count.
+ * Every pin is timed; each distinct pinning site is logged once with its stack.
+ */
+@Component
+@ConditionalOnProperty(prefix = "processing.performance", name = "virtual-threads", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration PINNING_THRESHOLD = Duration.ofMillis(20);
+    private static final int MAX_LOGGED_SITES = 100;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Timer pinnedTimer;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.pinnedTimer = Timer.builder("processing.virtual_threads.pinned")
+                .description("Virtual threads pinned to their carrier for longer than " + PINNING_THRESHOLD.toMillis() + "ms")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(PINNING_THRESHOLD).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+
+            logger.info("Monitoring virtual thread pinning (threshold {}ms)", PINNING_THRESHOLD.toMillis());
+
+        } catch (Exception e) {
+            // JFR may be unavailable (e.g. disabled in the runtime image); pinning then goes unreported
+            logger.warn("Virtual thread pinning monitor not started: {}", e.getMessage());
+            recordingStream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return;
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        // The top frames are the JDK parking code; the interesting site is the first caller outside it
+        String site = frames.stream()
+                .filter(frame -> !isJdkFrame(frame))
+                .findFirst()
+                .map(this::describe)
+                .orElse(describe(frames.get(0)));
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            logger.warn("Virtual thread pinned for {}ms at {}:\n    {}",
+                    event.getDuration().toMillis(), site,
+                    frames.stream().limit(LOGGED_FRAMES).map(this::describe).collect(Collectors.joining("\n    ")));
+        }
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private boolean isJdkFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
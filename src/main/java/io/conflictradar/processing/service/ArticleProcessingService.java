@@ -1,58 +1,130 @@
 package io.conflictradar.processing.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.conflictradar.processing.config.ExecutorConfig;
+import io.conflictradar.processing.config.KafkaConsumerConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
 import io.conflictradar.processing.dto.input.NewsIngestedEvent;
 import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
 import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.metrics.ProcessingMetrics;
+import io.conflictradar.processing.metrics.ProcessingMetrics.Stage;
 import io.conflictradar.processing.service.elasticsearch.ElasticsearchIndexingService;
 import io.conflictradar.processing.service.events.ProcessingEventPublisher;
 import io.conflictradar.processing.service.geo.GeoNamesService;
+import io.conflictradar.processing.service.geo.GeoNamesService.GeographicResolutionResult;
+import io.conflictradar.processing.service.kafka.OffsetCommitCoordinator;
 import io.conflictradar.processing.service.nlp.NlpService;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Service
 public class ArticleProcessingService {
 
     private static final Logger logger = LoggerFactory.getLogger(ArticleProcessingService.class);
 
+    private final ProcessingConfig config;
     private final NlpService nlpService;
     private final ElasticsearchIndexingService elasticsearchService;
     private final ProcessingEventPublisher eventPublisher;
     private final GeoNamesService geoNamesService;
+    private final ProcessingMetrics metrics;
+    private final OffsetCommitCoordinator offsetCoordinator;
+    private final Executor nlpExecutor;
 
-    public ArticleProcessingService(NlpService nlpService,
+    /**
+     * Indexing started by attempts that missed the article deadline, by article id, so the retry reuses it
+     * instead of indexing again. Bounded: a dropped entry only costs a repeated (idempotent) index request.
+     */
+    private final Cache<String, CompletableFuture<Void>> timedOutIndexing = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public ArticleProcessingService(ProcessingConfig config,
+                                    NlpService nlpService,
                                     ElasticsearchIndexingService elasticsearchService,
                                     ProcessingEventPublisher eventPublisher,
-                                    GeoNamesService geoNamesService) {
+                                    GeoNamesService geoNamesService,
+                                    ProcessingMetrics metrics,
+                                    OffsetCommitCoordinator offsetCoordinator,
+                                    @Qualifier(ExecutorConfig.NLP_EXECUTOR) Executor nlpExecutor) {
+        this.config = config;
         this.nlpService = nlpService;
         this.elasticsearchService = elasticsearchService;
         this.eventPublisher = eventPublisher;
         this.geoNamesService = geoNamesService;
+        this.metrics = metrics;
+        this.offsetCoordinator = offsetCoordinator;
+        this.nlpExecutor = nlpExecutor;
     }
 
+    /**
+     * Single-record mode. A failed article moves to the next retry topic (news-ingested-retry-N,
+     * with growing delays) and finally to the dead-letter topic, while the main partition keeps flowing.
+     * A processed article's offset is committed only once Elasticsearch has it; if indexing fails
+     * after its own retries, the article is dead-lettered instead.
+     */
+    @RetryableTopic(
+            attempts = "${processing.kafka.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${processing.kafka.retry.initial-delay-ms:5000}",
+                    multiplierExpression = "${processing.kafka.retry.multiplier:6}",
+                    maxDelayExpression = "${processing.kafka.retry.max-delay-ms:300000}"
+            ),
+            retryTopicSuffix = KafkaConsumerConfig.RETRY_TOPIC_SUFFIX,
+            dltTopicSuffix = KafkaConsumerConfig.DLT_SUFFIX,
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            autoCreateTopics = "${processing.kafka.retry.auto-create-topics:true}"
+    )
     @KafkaListener(
+            id = "newsIngestedListener",
             topics = "${processing.kafka.topics.news-ingested}",
             groupId = "${processing.kafka.consumer-group-id}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${processing.kafka.batch-listener:false}}"
     )
-    public void processNewsArticle(
-            @Payload NewsIngestedEvent event,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment) {
+    public void processNewsArticle(ConsumerRecord<String, NewsIngestedEvent> record, Consumer<?, ?> consumer) {
+        // Commit whatever indexing confirmed since the last delivery
+        offsetCoordinator.commitReady(consumer);
+
+        NewsIngestedEvent event = record.value();
+        if (event == null) {
+            // Tombstones carry no article
+            offsetCoordinator.track(record, CompletableFuture.completedFuture(null));
+            return;
+        }
 
         // Generate correlation ID for tracking
         String correlationId = "proc-" + UUID.randomUUID().toString().substring(0, 8);
@@ -60,58 +132,160 @@ public class ArticleProcessingService {
 
         try {
             logger.info("Processing article: {} from {} (topic: {}, partition: {}, offset: {})",
-                    event.articleId(), event.getSimpleSource(), topic, partition, offset);
+                    event.articleId(), event.getSimpleSource(), record.topic(), record.partition(), record.offset());
 
-            // Process the article
-            processArticle(event);
+            // Process the article; indexing may still be waiting for its bulk request
+            CompletableFuture<Void> indexed = processArticle(event);
 
-            // Manual acknowledgment after successful processing
-            acknowledgment.acknowledge();
+            offsetCoordinator.track(record, indexed.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    metrics.articleFailed();
+                }
+            }));
 
             logger.info("Successfully processed article: {}", event.articleId());
 
-        } catch (Exception e) {
-            logger.error("Failed to process article: {} - {}", event.articleId(), e.getMessage(), e);
+        } catch (RuntimeException e) {
+            logger.error("Failed to process article: {} from {} - {}", event.articleId(), record.topic(), e.getMessage(), e);
+            metrics.articleFailed();
 
-            // TODO: Send to dead letter queue or retry logic
-            // For now, acknowledge to avoid infinite retries
-            acknowledgment.acknowledge();
+            // Hand the record to the retry topic chain
+            throw e;
 
         } finally {
             MDC.clear();
         }
     }
 
-    private void processArticle(NewsIngestedEvent event) {
-        long startTime = System.currentTimeMillis();
+    /**
+     * Batch mode: handles a whole poll at once. Offsets are committed as the articles are durably indexed;
+     * an article that fails processing or indexing is dead-lettered.
+     */
+    @KafkaListener(
+            id = "newsIngestedBatchListener",
+            topics = "${processing.kafka.topics.news-ingested}",
+            groupId = "${processing.kafka.consumer-group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${processing.kafka.batch-listener:false}"
+    )
+    public void processNewsArticleBatch(
+            List<ConsumerRecord<String, NewsIngestedEvent>> records,
+            Consumer<?, ?> consumer) {
 
-        logger.debug("Starting NLP processing for article: {}", event.articleId());
+        offsetCoordinator.commitReady(consumer);
+
+        String correlationId = "batch-" + UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("correlationId", correlationId);
 
         try {
-        // Step 1: Extract entities (persons, organizations, locations)
-        EntityExtractionResult entityResult = extractEntities(event);
+            long startTime = System.currentTimeMillis();
+
+            // Tombstones carry no article
+            List<ConsumerRecord<String, NewsIngestedEvent>> articles = new ArrayList<>(records.size());
+            for (ConsumerRecord<String, NewsIngestedEvent> record : records) {
+                if (record.value() != null) {
+                    articles.add(record);
+                } else {
+                    offsetCoordinator.track(record, CompletableFuture.completedFuture(null));
+                }
+            }
+            List<NewsIngestedEvent> events = articles.stream()
+                    .map(ConsumerRecord::value)
+                    .toList();
 
-        // Step 2: Analyze sentiment
-        analyzeSentiment(event, entityResult);
+            logger.info("Processing batch of {} articles ({} records polled)", events.size(), records.size());
 
-        // Step 3: Resolve geographic locations
-        resolveGeography(event, entityResult);
+            // Step 1 for the whole batch in one multi-threaded NLP run on the NLP executor, then the per-article steps
+            List<EntityExtractionResult> entityResults = onNlpExecutor(() -> extractEntities(events));
 
-        // Step 4: Index to Elasticsearch
-        CompletableFuture<Void> indexingFuture = indexToElasticsearch(event, entityResult);
+            List<ArticleStages> articleStages = new ArrayList<>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                try {
+                    articleStages.add(processArticle(events.get(i), entityResults.get(i), startTime));
+                } catch (Exception e) {
+                    articleStages.add(new ArticleStages(CompletableFuture.failedFuture(e), CompletableFuture.completedFuture(null)));
+                }
+            }
 
-        // Step 5: Publish enhanced events
-        publishEnhancedEvents(event, entityResult);
+            // Wait for every article of the batch to be processed (each bounded by its deadline)
+            CompletableFuture.allOf(articleStages.stream().map(ArticleStages::processed).toArray(CompletableFuture[]::new))
+                    .exceptionally(ex -> null)
+                    .join();
+
+            // Each offset is released once its article is in Elasticsearch; failures are dead-lettered
+            for (int i = 0; i < articleStages.size(); i++) {
+                NewsIngestedEvent event = events.get(i);
+                ArticleStages stages = articleStages.get(i);
+                offsetCoordinator.track(articles.get(i), stages.processed().thenCompose(done -> stages.indexed())
+                        .whenComplete((result, ex) -> {
+                            if (ex != null) {
+                                logger.error("Failed to process article {}: {}", event.articleId(), ex.getMessage());
+                                metrics.articleFailed();
+                            }
+                        }));
+            }
 
-        long totalTime = System.currentTimeMillis() - startTime;
+            logger.info("Successfully processed batch of {} articles in {}ms",
+                    events.size(), System.currentTimeMillis() - startTime);
 
-        logger.info("Completed processing for article: {} in {}ms (entities: {}, conflict-relevant: {}, enhanced-risk: {:.2f})",
-                event.articleId(), totalTime, entityResult.entities().size(),
-                entityResult.getConflictRelevantEntities().size(),
-                calculateEnhancedRiskScore(event, entityResult));
-        if (indexingFuture != null) {
-            indexingFuture.join(); // Wait for Elasticsearch indexing
+        } finally {
+            MDC.clear();
         }
+    }
+
+    /**
+     * Articles whose retries are exhausted, or whose failure is not retryable, land here.
+     * The record keeps the kafka_dlt-* failure headers for inspection and replay.
+     */
+    @DltHandler
+    public void processDeadLetter(ConsumerRecord<String, NewsIngestedEvent> record, Acknowledgment acknowledgment) {
+        metrics.articleDeadLettered();
+
+        logger.error("Article {} dead-lettered to {} after failing at {}-{}@{}: {} ({})",
+                record.value() != null ? record.value().articleId() : record.key(),
+                record.topic(),
+                headerAsString(record, KafkaHeaders.DLT_ORIGINAL_TOPIC),
+                headerAsInt(record, KafkaHeaders.DLT_ORIGINAL_PARTITION),
+                headerAsLong(record, KafkaHeaders.DLT_ORIGINAL_OFFSET),
+                headerAsString(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE),
+                headerAsString(record, KafkaHeaders.DLT_EXCEPTION_FQCN));
+
+        acknowledgment.acknowledge();
+    }
+
+    private static String headerAsString(ConsumerRecord<?, ?> record, String name) {
+        var header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static Integer headerAsInt(ConsumerRecord<?, ?> record, String name) {
+        var header = record.headers().lastHeader(name);
+        return header != null && header.value().length == Integer.BYTES ? ByteBuffer.wrap(header.value()).getInt() : null;
+    }
+
+    private static Long headerAsLong(ConsumerRecord<?, ?> record, String name) {
+        var header = record.headers().lastHeader(name);
+        return header != null && header.value().length == Long.BYTES ? ByteBuffer.wrap(header.value()).getLong() : null;
+    }
+
+    /**
+     * Process one article; returns once it is processed, with the future of its durable indexing
+     */
+    private CompletableFuture<Void> processArticle(NewsIngestedEvent event) {
+        long startTime = System.currentTimeMillis();
+
+        logger.debug("Starting NLP processing for article: {}", event.articleId());
+
+        try {
+            // Step 1: Extract entities (persons, organizations, locations) on the NLP executor,
+            // so CoreNLP stays on platform threads even when the listener runs on virtual ones.
+            // The remaining stages are started from the listener thread, since sentiment goes back to the NLP executor.
+            EntityExtractionResult entityResult = onNlpExecutor(() -> extractEntities(event));
+
+            // Then wait for processing, bounded by the article deadline
+            ArticleStages stages = processArticle(event, entityResult, startTime);
+            stages.processed().join();
+            return stages.indexed();
 
         } catch (Exception e) {
             logger.error("Failed to process article {}: {}", event.articleId(), e.getMessage(), e);
@@ -119,6 +293,88 @@ public class ArticleProcessingService {
         }
     }
 
+    /**
+     * Steps 2-5 for an article whose entities are already extracted, run as a dependency graph:
+     * geography and sentiment start together, indexing needs only the entities, publishing waits for both.
+     * The article is processed once its events are published, or fails when the article deadline passes;
+     * indexing completes separately, when the bulk request holding the document is confirmed.
+     */
+    private ArticleStages processArticle(NewsIngestedEvent event,
+                                         EntityExtractionResult entityResult,
+                                         long startTime) {
+        // Step 3: Resolve geographic locations (I/O bound, runs while the other stages proceed)
+        CompletableFuture<GeographicResolutionResult> geography = resolveGeography(event, entityResult);
+
+        // Step 4: Index to Elasticsearch, unless an attempt that ran out of time already did
+        CompletableFuture<Void> indexing = reuseTimedOutIndexing(event, entityResult);
+
+        // Step 2: Analyze sentiment on the NLP executor, alongside the lookups in flight
+        CompletableFuture<Double> sentiment = CompletableFuture.supplyAsync(
+                () -> metrics.time(Stage.ANALYZE_SENTIMENT, () -> analyzeSentiment(event, entityResult)), nlpExecutor);
+
+        // Step 5: Publish enhanced events once geography and sentiment are known
+        CompletableFuture<Void> publishing = geography.thenCombine(sentiment, GeoAndSentiment::new)
+                .thenCompose(inputs -> publishEnhancedEvents(event, entityResult, inputs.geography(), inputs.sentimentScore()));
+
+        Duration deadline = config.performance().processingTimeout();
+        CompletableFuture<Void> processed = publishing
+                .thenRun(() -> {
+                    long totalTime = System.currentTimeMillis() - startTime;
+                    metrics.articleProcessed(totalTime, entityResult.entities().size(),
+                            geography.join().allLocations().size());
+
+                    logger.info("Completed processing for article: {} in {}ms (entities: {}, conflict-relevant: {}, enhanced-risk: {:.2f})",
+                            event.articleId(), totalTime, entityResult.entities().size(),
+                            entityResult.getConflictRelevantEntities().size(),
+                            calculateEnhancedRiskScore(event, entityResult));
+                })
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+
+        // At the deadline, stop the stages still running; indexing carries on and is kept for the retry
+        processed.whenComplete((result, ex) -> {
+            if (ex instanceof TimeoutException) {
+                timedOutIndexing.put(event.articleId(), indexing);
+                geography.cancel(true);
+                sentiment.cancel(true);
+                publishing.cancel(true);
+            }
+        });
+
+        return new ArticleStages(processed, indexing);
+    }
+
+    /**
+     * The indexing of an earlier attempt that timed out, or a new one if there is none or it failed
+     */
+    private CompletableFuture<Void> reuseTimedOutIndexing(NewsIngestedEvent event, EntityExtractionResult entityResult) {
+        CompletableFuture<Void> earlier = timedOutIndexing.asMap().remove(event.articleId());
+        if (earlier == null) {
+            return indexToElasticsearch(event, entityResult);
+        }
+
+        logger.debug("Reusing indexing of article {} from an attempt that timed out", event.articleId());
+        return earlier.exceptionallyCompose(ex -> indexToElasticsearch(event, entityResult));
+    }
+
+    /**
+     * An article's processing (published, within its deadline) and its durable indexing
+     */
+    private record ArticleStages(CompletableFuture<Void> processed, CompletableFuture<Void> indexed) {}
+
+    private record GeoAndSentiment(GeographicResolutionResult geography, double sentimentScore) {}
+
+    /**
+     * Run CPU-bound work on the NLP executor and wait for it. A full executor makes the caller wait
+     * for queue space, so the listener slows down instead of running CoreNLP on its own (possibly virtual) thread.
+     */
+    private <T> T onNlpExecutor(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, nlpExecutor).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
     private EntityExtractionResult extractEntities(NewsIngestedEvent event) {
         logger.debug("Extracting entities from: {}", event.title());
 
@@ -126,32 +382,76 @@ public class ArticleProcessingService {
             // Combine title and description for better entity extraction
             String textToAnalyze = event.title();
 
-            EntityExtractionResult result = nlpService.extractEntities(textToAnalyze);
-
-            logger.debug("Extracted {} entities from article {}: {} persons, {} organizations, {} locations",
-                    result.entities().size(), event.articleId(),
-                    result.getPersons().size(),
-                    result.getOrganizations().size(),
-                    result.getLocations().size());
-
-            // Log high-priority conflict entities
-            if (result.hasHighPriorityConflictEntities()) {
-                logger.warn("High-priority conflict entities found in article {}: {}",
-                        event.articleId(),
-                        result.getConflictRelevantEntities().stream()
-                                .map(entity -> entity.text() + "(" + entity.type() + ")")
-                                .toList());
-            }
+            // High-risk articles skip the dictionary tier and always get the full pipeline
+            EntityExtractionResult result = metrics.time(Stage.EXTRACT_ENTITIES, () -> event.isHighRisk()
+                    ? nlpService.extractEntitiesFull(textToAnalyze)
+                    : nlpService.extractEntities(textToAnalyze));
+
+            logExtractedEntities(event, result);
 
             return result;
 
+        } catch (RejectedExecutionException e) {
+            // No CoreNLP pipeline free: let the retry topic (or the batch error handler) try the article again later
+            logger.warn("Entity extraction rejected for article {}: {}", event.articleId(), e.getMessage());
+            metrics.stageFailed(Stage.EXTRACT_ENTITIES);
+            throw e;
+
         } catch (Exception e) {
             logger.error("Failed to extract entities from article {}: {}", event.articleId(), e.getMessage(), e);
+            metrics.stageFailed(Stage.EXTRACT_ENTITIES);
             return EntityExtractionResult.empty();
         }
     }
 
-    private void analyzeSentiment(NewsIngestedEvent event, EntityExtractionResult entityResult) {
+    private List<EntityExtractionResult> extractEntities(List<NewsIngestedEvent> events) {
+        logger.debug("Extracting entities from batch of {} articles", events.size());
+
+        try {
+            BitSet highRisk = new BitSet(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                highRisk.set(i, events.get(i).isHighRisk());
+            }
+
+            List<EntityExtractionResult> results = nlpService.extractEntitiesBatch(
+                    events.stream().map(NewsIngestedEvent::title).toList(), highRisk);
+
+            for (int i = 0; i < events.size(); i++) {
+                // Batch results carry their share of the batch run time
+                metrics.record(Stage.EXTRACT_ENTITIES, results.get(i).processingTimeMs());
+                logExtractedEntities(events.get(i), results.get(i));
+            }
+
+            return results;
+
+        } catch (Exception e) {
+            logger.error("Failed to extract entities from batch, falling back to single extraction: {}",
+                    e.getMessage(), e);
+            metrics.stageFailed(Stage.EXTRACT_ENTITIES);
+            return events.stream()
+                    .map(this::extractEntities)
+                    .toList();
+        }
+    }
+
+    private void logExtractedEntities(NewsIngestedEvent event, EntityExtractionResult result) {
+        logger.debug("Extracted {} entities from article {}: {} persons, {} organizations, {} locations",
+                result.entities().size(), event.articleId(),
+                result.getPersons().size(),
+                result.getOrganizations().size(),
+                result.getLocations().size());
+
+        // Log high-priority conflict entities
+        if (result.hasHighPriorityConflictEntities()) {
+            logger.warn("High-priority conflict entities found in article {}: {}",
+                    event.articleId(),
+                    result.getConflictRelevantEntities().stream()
+                            .map(entity -> entity.text() + "(" + entity.type() + ")")
+                            .toList());
+        }
+    }
+
+    private double analyzeSentiment(NewsIngestedEvent event, EntityExtractionResult entityResult) {
         logger.debug("Analyzing sentiment for: {}", event.articleId());
 
         try {
@@ -178,63 +478,96 @@ public class ArticleProcessingService {
             logger.debug("Sentiment analysis for {}: score = {}, entities = {}, critical = {}",
                     event.articleId(), sentimentScore, entityResult.entities().size(), event.isCritical());
 
+            return sentimentScore;
+
         } catch (Exception e) {
             logger.error("Failed to analyze sentiment for article {}: {}", event.articleId(), e.getMessage(), e);
+            metrics.stageFailed(Stage.ANALYZE_SENTIMENT);
+            return 0.0;
         }
     }
 
-    private void resolveGeography(NewsIngestedEvent event, EntityExtractionResult entityResult) {
+    private CompletableFuture<GeographicResolutionResult> resolveGeography(NewsIngestedEvent event,
+                                                                          EntityExtractionResult entityResult) {
         logger.debug("Resolving geography for: {}", event.articleId());
 
-        try {
-            var locationEntities = entityResult.getLocations();
-
-            if (!locationEntities.isEmpty()) {
-                logger.debug("Found {} location entities in article {}: {}",
-                        locationEntities.size(), event.articleId(),
-                        locationEntities.stream().map(ExtractedEntity::text).toList());
-
-                // Resolve locations to coordinates
-                GeoNamesService.GeographicResolutionResult geoResult =
-                        geoNamesService.resolveLocations(locationEntities);
-
-                if (geoResult.hasResults()) {
-                    logger.info("Geographic resolution for {}: primary={}, total={}, conflict zones={}",
-                            event.articleId(),
-                            geoResult.primaryLocation() != null ? geoResult.primaryLocation().name() : "none",
-                            geoResult.allLocations().size(),
-                            geoResult.getConflictZones().size());
-
-                    // Log conflict zones with high priority
-                    if (!geoResult.getConflictZones().isEmpty()) {
-                        logger.warn("CONFLICT ZONES detected in article {}: {}",
-                                event.articleId(),
-                                geoResult.getConflictZones().stream()
-                                        .map(loc -> loc.name() + " (" + loc.country() + ")")
-                                        .toList());
-                    }
+        var locationEntities = entityResult.getLocations();
+        if (locationEntities.isEmpty()) {
+            return CompletableFuture.completedFuture(GeographicResolutionResult.empty());
+        }
 
-                    // Store in MDC for later use in event publishing
-                    MDC.put("primaryLocation", geoResult.primaryLocation() != null ?
-                            geoResult.primaryLocation().name() : "");
-                    MDC.put("primaryCoordinates", geoResult.getPrimaryCoordinates() != null ?
-                            geoResult.getPrimaryCoordinates() : "");
-                } else {
-                    logger.debug("No geographic coordinates resolved for article: {}", event.articleId());
+        logger.debug("Found {} location entities in article {}: {}",
+                locationEntities.size(), event.articleId(),
+                locationEntities.stream().map(ExtractedEntity::text).toList());
+
+        Timer.Sample sample = metrics.start();
+        try {
+            // Resolve locations to coordinates
+            CompletableFuture<GeographicResolutionResult> resolution = geoNamesService.resolveLocationsAsync(locationEntities);
+            CompletableFuture<GeographicResolutionResult> geography = resolution
+                    .handle((geoResult, ex) -> {
+                        metrics.stop(Stage.RESOLVE_GEOGRAPHY, sample);
+                        if (ex != null) {
+                            logger.error("Failed to resolve geography for article {}: {}", event.articleId(), ex.getMessage());
+                            metrics.stageFailed(Stage.RESOLVE_GEOGRAPHY);
+                            return GeographicResolutionResult.empty();
+                        }
+
+                        logGeography(event, geoResult);
+                        return geoResult;
+                    });
+
+            // Cancelling the article's geography cancels the lookups in flight
+            geography.whenComplete((geoResult, ex) -> {
+                if (ex instanceof CancellationException) {
+                    resolution.cancel(true);
                 }
-            }
+            });
+            return geography;
 
         } catch (Exception e) {
             logger.error("Failed to resolve geography for article {}: {}", event.articleId(), e.getMessage(), e);
+            metrics.stop(Stage.RESOLVE_GEOGRAPHY, sample);
+            metrics.stageFailed(Stage.RESOLVE_GEOGRAPHY);
+            return CompletableFuture.completedFuture(GeographicResolutionResult.empty());
+        }
+    }
+
+    private void logGeography(NewsIngestedEvent event, GeographicResolutionResult geoResult) {
+        if (!geoResult.hasResults()) {
+            logger.debug("No geographic coordinates resolved for article: {}", event.articleId());
+            return;
+        }
+
+        logger.info("Geographic resolution for {}: primary={}, total={}, conflict zones={}",
+                event.articleId(),
+                geoResult.primaryLocation() != null ? geoResult.primaryLocation().name() : "none",
+                geoResult.allLocations().size(),
+                geoResult.getConflictZones().size());
+
+        // Log conflict zones with high priority
+        if (!geoResult.getConflictZones().isEmpty()) {
+            logger.warn("CONFLICT ZONES detected in article {}: {}",
+                    event.articleId(),
+                    geoResult.getConflictZones().stream()
+                            .map(loc -> loc.name() + " (" + loc.country() + ")")
+                            .toList());
         }
     }
 
     private CompletableFuture<Void> indexToElasticsearch(NewsIngestedEvent event, EntityExtractionResult entityResult) {
         logger.debug("Indexing to Elasticsearch: {}", event.articleId());
 
+        Timer.Sample sample = metrics.start();
         try {
             // Index article with enhanced data
             CompletableFuture<Void> indexingFuture = elasticsearchService.indexArticle(event, entityResult);
+            indexingFuture.whenComplete((result, ex) -> {
+                metrics.stop(Stage.INDEX_TO_ELASTICSEARCH, sample);
+                if (ex != null) {
+                    metrics.stageFailed(Stage.INDEX_TO_ELASTICSEARCH);
+                }
+            });
 
             // Log enhanced metrics
             double enhancedRiskScore = calculateEnhancedRiskScore(event, entityResult);
@@ -248,6 +581,8 @@ public class ArticleProcessingService {
 
         } catch (Exception e) {
             logger.error("Failed to index article {} to Elasticsearch: {}", event.articleId(), e.getMessage(), e);
+            metrics.stop(Stage.INDEX_TO_ELASTICSEARCH, sample);
+            metrics.stageFailed(Stage.INDEX_TO_ELASTICSEARCH);
             return CompletableFuture.completedFuture(null); // Don't fail the whole pipeline
         }
     }
@@ -275,13 +610,20 @@ public class ArticleProcessingService {
         return Math.min(baseScore + entityBoost, 1.0);
     }
 
-    private void publishEnhancedEvents(NewsIngestedEvent event, EntityExtractionResult entityResult) {
+    /**
+     * Publish the enhanced events. Failures are logged and counted but never fail the article.
+     */
+    private CompletableFuture<Void> publishEnhancedEvents(NewsIngestedEvent event,
+                                                          EntityExtractionResult entityResult,
+                                                          GeographicResolutionResult geoResult,
+                                                          double sentimentScore) {
         logger.debug("Publishing enhanced events for: {}", event.articleId());
 
+        Timer.Sample sample = metrics.start();
         try {
-            // Extract geographic information from MDC (set during resolveGeography)
-            String primaryLocation = MDC.get("primaryLocation");
-            String coordinates = MDC.get("primaryCoordinates");
+            // Geographic information from the resolution stage
+            String primaryLocation = geoResult.primaryLocation() != null ? geoResult.primaryLocation().name() : null;
+            String coordinates = geoResult.getPrimaryCoordinates();
 
             // Extract all location names
             List<String> locations = entityResult.getLocations().stream()
@@ -291,10 +633,6 @@ public class ArticleProcessingService {
             // Calculate enhanced risk score
             double enhancedRiskScore = calculateEnhancedRiskScore(event, entityResult);
 
-            // Simple sentiment analysis
-            double sentimentScore = event.conflictKeywords().isEmpty() ? 0.0 :
-                    -0.3 * Math.min(event.conflictKeywords().size(), 3);
-
             // Determine categories
             Set<String> categories = Set.of("conflict", "news");
             if (!entityResult.getPersons().isEmpty()) {
@@ -314,7 +652,8 @@ public class ArticleProcessingService {
             );
 
             // Log success/failure
-            publishingFuture.whenComplete((result, ex) -> {
+            return publishingFuture.handle((result, ex) -> {
+                metrics.stop(Stage.PUBLISH_ENHANCED_EVENTS, sample);
                 if (ex == null) {
                     logger.info("All enhanced events published for article: {}", event.articleId());
 
@@ -331,11 +670,16 @@ public class ArticleProcessingService {
                 } else {
                     logger.error("Failed to publish some enhanced events for {}: {}",
                             event.articleId(), ex.getMessage());
+                    metrics.stageFailed(Stage.PUBLISH_ENHANCED_EVENTS);
                 }
+                return null;
             });
 
         } catch (Exception e) {
             logger.error("Failed to publish enhanced events for article {}: {}", event.articleId(), e.getMessage(), e);
+            metrics.stop(Stage.PUBLISH_ENHANCED_EVENTS, sample);
+            metrics.stageFailed(Stage.PUBLISH_ENHANCED_EVENTS);
+            return CompletableFuture.completedFuture(null);
         }
     }
 }
\ No newline at end of file
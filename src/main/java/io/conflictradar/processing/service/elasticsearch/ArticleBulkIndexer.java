@@ -0,0 +1,305 @@
+package io.conflictradar.processing.service.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.conflictradar.processing.config.ElasticsearchConfig;
+import io.conflictradar.processing.document.ProcessedArticleDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bulk writer for processed articles on the Elasticsearch client's BulkIngester.
+ * Documents are serialized straight to the bulk body by {@link #documentMapper()}, without Spring Data entity
+ * mapping, and sent when the batch reaches its document count or byte size, or when the flush interval passes.
+ * Each document gets a future that completes once Elasticsearch has accepted it. Items rejected with a
+ * retryable status (or caught in a failed request) are retried on their own with exponential backoff;
+ * other item errors fail the document right away.
+ * At most {@code concurrentRequests} bulk requests are in flight and at most {@code maxPending} documents
+ * are buffered or in flight; beyond that {@link #index} blocks the caller.
+ */
+class ArticleBulkIndexer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleBulkIndexer.class);
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    /**
+     * Matches the date_hour_minute_second format of the document's date fields
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final Supplier<String> indexName;
+    private final Executor callbackExecutor;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    private final BulkIngester<PendingDocument> ingester;
+    private final Semaphore pendingPermits;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Long, Long> requestStartTimes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Timer bulkTimer;
+    private final Counter indexedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter blockedCounter;
+
+    /**
+     * @param indexName        target index, resolved per document
+     * @param callbackExecutor completes the document futures, off the client's I/O threads
+     */
+    ArticleBulkIndexer(ElasticsearchAsyncClient client, Supplier<String> indexName, Executor callbackExecutor,
+                       ElasticsearchConfig.Indexing indexing, MeterRegistry meterRegistry) {
+        this.indexName = indexName;
+        this.callbackExecutor = callbackExecutor;
+        this.maxRetries = indexing.maxRetries();
+        this.retryBackoff = indexing.retryBackoff();
+        int maxActions = Math.max(1, indexing.batchSize());
+        this.pendingPermits = new Semaphore(Math.max(maxActions, indexing.maxPending()));
+
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "es-bulk-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.ingester = BulkIngester.<PendingDocument>of(builder -> {
+            builder.client(client)
+                    .maxOperations(maxActions)
+                    .maxSize(indexing.maxBatchSize().toBytes())
+                    .maxConcurrentRequests(Math.max(1, indexing.concurrentRequests()))
+                    .flushInterval(indexing.flushInterval().toMillis(), TimeUnit.MILLISECONDS)
+                    .listener(new Listener());
+            if (indexing.enableRefresh()) {
+                // Documents become searchable before their future completes (dev/test only)
+                builder.globalSettings(new BulkRequest.Builder().refresh(Refresh.WaitFor));
+            }
+            return builder;
+        });
+
+        Gauge.builder("elasticsearch.bulk.pending", pending, AtomicInteger::get)
+                .description("Documents buffered or in flight, not yet accepted by Elasticsearch")
+                .register(meterRegistry);
+        Gauge.builder("elasticsearch.bulk.in_flight", inFlight, AtomicInteger::get)
+                .description("Bulk requests currently in flight")
+                .register(meterRegistry);
+        this.bulkTimer = Timer.builder("elasticsearch.bulk.duration")
+                .description("Latency of one bulk request")
+                .register(meterRegistry);
+        this.indexedCounter = itemsCounter(meterRegistry, "indexed");
+        this.retriedCounter = itemsCounter(meterRegistry, "retried");
+        this.failedCounter = itemsCounter(meterRegistry, "failed");
+        this.blockedCounter = Counter.builder("elasticsearch.bulk.blocked")
+                .description("Callers that had to wait because too many documents were pending")
+                .register(meterRegistry);
+    }
+
+    private static Counter itemsCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("elasticsearch.bulk.items")
+                .description("Documents sent in bulk requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serializes documents for the bulk body: ISO date-times without zone, null fields left out
+     */
+    static ObjectMapper documentMapper() {
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DATE_FORMAT));
+
+        return new ObjectMapper()
+                .registerModule(javaTimeModule)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /**
+     * Queue a document for indexing. Blocks while the pending limit is reached.
+     * The future completes once Elasticsearch accepted the document, or fails when it was rejected.
+     */
+    CompletableFuture<Void> index(ProcessedArticleDocument document) {
+        String index;
+        try {
+            index = indexName.get();
+        } catch (RuntimeException e) {
+            // The month's index could not be created; nothing is written until it can be
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (!pendingPermits.tryAcquire()) {
+            blockedCounter.increment();
+            try {
+                pendingPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        PendingDocument item = new PendingDocument(document, index);
+        pending.incrementAndGet();
+        item.future.whenComplete((result, ex) -> {
+            pending.decrementAndGet();
+            pendingPermits.release();
+        });
+
+        submit(item);
+        return item.future;
+    }
+
+    private void submit(PendingDocument item) {
+        try {
+            // Blocks while the concurrent request limit is reached
+            ingester.add(BulkOperation.of(operation -> operation
+                    .index(index -> index.index(item.index).id(item.document.id()).document(item.document))), item);
+        } catch (Exception e) {
+            failedCounter.increment();
+            item.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Send whatever is buffered now
+     */
+    void flush() {
+        ingester.flush();
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Runs on the client's I/O threads, so it only hands results over to the callback executor
+     */
+    private class Listener implements BulkListener<PendingDocument> {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<PendingDocument> contexts) {
+            inFlight.incrementAndGet();
+            requestStartTimes.put(executionId, System.nanoTime());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<PendingDocument> contexts,
+                              BulkResponse response) {
+            requestDone(executionId);
+            complete(() -> {
+                List<BulkResponseItem> items = response.items();
+                for (int i = 0; i < contexts.size(); i++) {
+                    BulkResponseItem item = i < items.size() ? items.get(i) : null;
+                    if (item != null && item.error() == null) {
+                        indexedCounter.increment();
+                        contexts.get(i).future.complete(null);
+                    } else if (item == null) {
+                        retryOrFail(contexts.get(i), "missing from bulk response", null);
+                    } else if (RETRYABLE_STATUSES.contains(item.status())) {
+                        retryOrFail(contexts.get(i), item.error().type() + ": " + item.error().reason(), null);
+                    } else {
+                        fail(contexts.get(i), item.status() + " " + item.error().type() + ": " + item.error().reason(), null);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<PendingDocument> contexts,
+                              Throwable failure) {
+            requestDone(executionId);
+            logger.warn("Bulk request of {} documents failed: {}", contexts.size(), failure.getMessage());
+            complete(() -> contexts.forEach(item -> retryOrFail(item, String.valueOf(failure.getMessage()), failure)));
+        }
+
+        private void requestDone(long executionId) {
+            inFlight.decrementAndGet();
+            Long startTime = requestStartTimes.remove(executionId);
+            if (startTime != null) {
+                bulkTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void complete(Runnable completion) {
+            try {
+                callbackExecutor.execute(completion);
+            } catch (RejectedExecutionException e) {
+                completion.run();
+            }
+        }
+    }
+
+    private void retryOrFail(PendingDocument item, String reason, Throwable cause) {
+        if (item.attempts >= maxRetries) {
+            fail(item, reason, cause);
+            return;
+        }
+
+        item.attempts++;
+        retriedCounter.increment();
+        long delayMs = Math.min(retryBackoff.toMillis() << Math.min(item.attempts - 1, 20), MAX_RETRY_BACKOFF.toMillis());
+        logger.debug("Retrying document {} in {}ms (attempt {}): {}", item.document.id(), delayMs, item.attempts, reason);
+        try {
+            retryScheduler.schedule(() -> submit(item), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            item.future.completeExceptionally(new IllegalStateException("Bulk indexer closed before retry", e));
+        }
+    }
+
+    private void fail(PendingDocument item, String reason, Throwable cause) {
+        failedCounter.increment();
+        logger.error("Failed to index document {} after {} attempts: {}", item.document.id(), item.attempts + 1, reason);
+        item.future.completeExceptionally(new IllegalStateException(
+                "Failed to index document " + item.document.id() + ": " + reason, cause));
+    }
+
+    /**
+     * Flush what is buffered and wait for in-flight requests. Scheduled retries are dropped;
+     * their documents were never confirmed, so the offsets behind them are never committed.
+     */
+    @Override
+    public void close() {
+        retryScheduler.shutdownNow();
+        ingester.close();
+    }
+
+    private static final class PendingDocument {
+        private final ProcessedArticleDocument document;
+        private final String index;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private int attempts;
+
+        private PendingDocument(ProcessedArticleDocument document, String index) {
+            this.document = document;
+            this.index = index;
+        }
+    }
+}
@@ -1,77 +1,134 @@
 package io.conflictradar.processing.service.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.conflictradar.processing.config.ExecutorConfig;
 import io.conflictradar.processing.config.ProcessingConfig;
 import io.conflictradar.processing.document.ProcessedArticleDocument;
 import io.conflictradar.processing.dto.input.NewsIngestedEvent;
 import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
-import io.conflictradar.processing.repository.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.elasticsearch.client.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexInformation;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.Executor;
 
 @Service
 public class ElasticsearchIndexingService {
 
     private static final Logger logger = LoggerFactory.getLogger(ElasticsearchIndexingService.class);
 
-    private final ArticleRepository articleRepository;
-    private final ProcessingConfig config;
-    private final List<ProcessedArticleDocument> batchBuffer = new ArrayList<>();
-
-    public ElasticsearchIndexingService(ArticleRepository articleRepository, ProcessingConfig config) {
-        this.articleRepository = articleRepository;
-        this.config = config;
+    private static final String ARTICLES_INDEX_PREFIX = "articles-";
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    /**
+     * index.max_result_window: from + size paging ends here, search_after (the cursor) goes on
+     */
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final String STATS_CACHE_KEY = "articles";
+    private static final String HIGH_PRIORITY_AGGREGATION = "high_priority";
+    private static final String CONFLICT_RELEVANT_AGGREGATION = "conflict_relevant";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ArticleBulkIndexer bulkIndexer;
+    private final Cache<String, ArticleCounts> statsCache;
+
+    public ElasticsearchIndexingService(ProcessingConfig config,
+                                        @Qualifier(ExecutorConfig.ELASTICSEARCH_EXECUTOR) Executor indexingExecutor,
+                                        RestClient restClient, ElasticsearchOperations elasticsearchOperations,
+                                        MeterRegistry meterRegistry) {
+        this.elasticsearchOperations = elasticsearchOperations;
+
+        // Writes bypass the repository: a dedicated client serializes documents with the bulk writer's own mapper
+        ElasticsearchAsyncClient bulkClient = new ElasticsearchAsyncClient(
+                new RestClientTransport(restClient, new JacksonJsonpMapper(ArticleBulkIndexer.documentMapper())));
+        MonthlyIndexName indexName = new MonthlyIndexName(ARTICLES_INDEX_PREFIX, Clock.systemDefaultZone(), this::ensureIndex);
+        this.bulkIndexer = new ArticleBulkIndexer(bulkClient, indexName, indexingExecutor,
+                config.elasticsearch().indexing(), meterRegistry);
+
+        this.statsCache = Caffeine.newBuilder()
+                .expireAfterWrite(config.elasticsearch().statsCacheTtl())
+                .maximumSize(1)
+                .build();
     }
 
     /**
-     * Index single article with NLP results
+     * Index single article with NLP results.
+     * The document joins the next bulk request (one per document with batch-size 1) and the future
+     * completes once Elasticsearch accepted it, or fails when the write fails.
      */
     public CompletableFuture<Void> indexArticle(
             NewsIngestedEvent event,
             EntityExtractionResult entityResult
     ) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                logger.debug("Indexing article: {} to Elasticsearch", event.articleId());
-
-                // Calculate enhanced risk score
-                double enhancedRiskScore = calculateEnhancedRiskScore(event, entityResult);
-
-                // Create document
-                ProcessedArticleDocument document = ProcessedArticleDocument.create(
-                        event.articleId(),
-                        event.title(),
-                        "", // description not available in event
-                        event.link(),
-                        event.source(),
-                        event.publishedAt(),
-                        event.riskScore(),
-                        event.conflictKeywords(),
-                        entityResult.entities(),
-                        enhancedRiskScore,
-                        entityResult.getConflictRelevanceScore()
-                );
-
-                // Index document
-                if (config.elasticsearch().indexing().batchSize() > 1) {
-                    indexWithBatching(document);
+        try {
+            logger.debug("Indexing article: {} to Elasticsearch", event.articleId());
+
+            // Calculate enhanced risk score
+            double enhancedRiskScore = calculateEnhancedRiskScore(event, entityResult);
+
+            // Create document
+            ProcessedArticleDocument document = ProcessedArticleDocument.create(
+                    event.articleId(),
+                    event.title(),
+                    "", // description not available in event
+                    event.link(),
+                    event.source(),
+                    event.publishedAt(),
+                    event.riskScore(),
+                    event.conflictKeywords(),
+                    entityResult.entities(),
+                    enhancedRiskScore,
+                    entityResult.getConflictRelevanceScore()
+            );
+
+            // Index document
+            CompletableFuture<Void> indexed = bulkIndexer.index(document);
+
+            return indexed.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    logger.error("Failed to index article {} to Elasticsearch: {}",
+                            event.articleId(), ex.getMessage());
                 } else {
-                    indexSingle(document);
+                    logger.debug("Successfully indexed article: {} (enhanced risk: {}, entities: {})",
+                            event.articleId(), String.format("%.2f", enhancedRiskScore), entityResult.entities().size());
                 }
+            });
 
-                logger.debug("Successfully indexed article: {} (enhanced risk: {:.2f}, entities: {})",
-                        event.articleId(), enhancedRiskScore, entityResult.entities().size());
-
-            } catch (Exception e) {
-                logger.error("Failed to index article {} to Elasticsearch: {}",
-                        event.articleId(), e.getMessage(), e);
-            }
-        });
+        } catch (Exception e) {
+            logger.error("Failed to index article {} to Elasticsearch: {}",
+                    event.articleId(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     /**
@@ -104,113 +161,201 @@ public class ElasticsearchIndexingService {
     }
 
     /**
-     * Index single document immediately
+     * Create a new month's index with the document's settings and mapping (elasticsearch/article-*.json)
+     * before the first write to it. Throws when that fails: the write fails with it and the next one tries again,
+     * since a write would otherwise auto-create the index with dynamic mappings (entities not nested, text ids).
      */
-    private void indexSingle(ProcessedArticleDocument document) {
+    void ensureIndex(String index) {
         try {
-            articleRepository.save(document);
-
-            if (config.elasticsearch().indexing().enableRefresh()) {
-                // Force refresh for immediate visibility (only in dev/test)
-                // In production, rely on automatic refresh
+            IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(index));
+            if (!indexOps.exists()) {
+                indexOps.create(indexOps.createSettings(ProcessedArticleDocument.class),
+                        indexOps.createMapping(ProcessedArticleDocument.class));
+                logger.info("Created article index {}", index);
             }
 
         } catch (Exception e) {
-            logger.error("Failed to save document {} to Elasticsearch: {}",
-                    document.id(), e.getMessage(), e);
-            throw e;
+            logger.error("Failed to create article index {}: {}", index, e.getMessage(), e);
+            throw new IllegalStateException("Article index " + index + " could not be created", e);
         }
     }
 
     /**
-     * Add to batch buffer and flush when full
+     * Force flush any pending documents
      */
-    private synchronized void indexWithBatching(ProcessedArticleDocument document) {
-        batchBuffer.add(document);
+    public void forceFlush() {
+        logger.info("Force flushing {} pending documents", bulkIndexer.pending());
+        bulkIndexer.flush();
+    }
 
-        if (batchBuffer.size() >= config.elasticsearch().indexing().batchSize()) {
-            flushBatch();
-        }
+    @PreDestroy
+    public void shutdown() {
+        bulkIndexer.close();
     }
 
     /**
-     * Flush batch buffer to Elasticsearch
+     * Full-text search over all monthly article indices: multi_match on title (boosted) and description,
+     * with highlighted fragments. Pages by {@code page} for the first results, or by the {@code cursor}
+     * of the previous result (search_after) for deep paging beyond the result window.
+     *
+     * @throws IllegalArgumentException for a malformed cursor, or a page beyond the result window
      */
-    private void flushBatch() {
-        if (batchBuffer.isEmpty()) {
-            return;
+    public ArticleSearchResult searchArticles(String query, int size, int page, String cursor) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        boolean paged = cursor == null || cursor.isBlank();
+        if (paged && (long) (Math.max(0, page) + 1) * pageSize > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Page " + page + " of " + pageSize + " is beyond the first "
+                    + MAX_RESULT_WINDOW + " results; page on with the nextCursor of the previous result instead");
         }
 
-        try {
-            List<ProcessedArticleDocument> toIndex = new ArrayList<>(batchBuffer);
-            batchBuffer.clear();
-
-            logger.debug("Flushing batch of {} documents to Elasticsearch", toIndex.size());
+        // Tie-breakers must sort on every index, including a month with no documents yet
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(q -> q.multiMatch(m -> m.query(query).fields("title^2", "description")))
+                .withSort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+                .withSort(sort -> sort.field(field -> field.field("publishedAt").order(SortOrder.Desc)
+                        .unmappedType(FieldType.Date)))
+                .withSort(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc)
+                        .unmappedType(FieldType.Keyword)))
+                .withHighlightQuery(new HighlightQuery(new Highlight(List.of(
+                        new HighlightField("title"), new HighlightField("description"))), ProcessedArticleDocument.class));
+        if (paged) {
+            queryBuilder.withPageable(PageRequest.of(Math.max(0, page), pageSize));
+        } else {
+            queryBuilder.withSearchAfter(SearchCursor.decode(cursor))
+                    .withPageable(PageRequest.of(0, pageSize));
+        }
 
-            Iterable<ProcessedArticleDocument> saved = articleRepository.saveAll(toIndex);
+        try {
+            SearchHits<ProcessedArticleDocument> searchHits = elasticsearchOperations.search(queryBuilder.build(),
+                    ProcessedArticleDocument.class, IndexCoordinates.of(ARTICLES_INDEX_PREFIX + "*"));
 
-            long count = saved.spliterator().estimateSize();
-            logger.info("Successfully indexed batch of {} documents to Elasticsearch", count);
+            List<ArticleHit> hits = searchHits.getSearchHits().stream()
+                    .map(hit -> new ArticleHit(hit.getContent(), hit.getScore(), hit.getHighlightFields()))
+                    .toList();
+            // A full page may have more behind it
+            String nextCursor = hits.size() == pageSize
+                    ? SearchCursor.encode(searchHits.getSearchHit(hits.size() - 1).getSortValues())
+                    : null;
 
-        } catch (Exception e) {
-            logger.error("Failed to flush batch to Elasticsearch: {}", e.getMessage(), e);
+            return new ArticleSearchResult(searchHits.getTotalHits(), hits, nextCursor);
 
-            // Re-add documents for retry (simple strategy)
-            // In production, might want more sophisticated retry logic
+        } catch (RuntimeException e) {
+            // An unavailable cluster is an error, not an empty result
+            logger.error("Failed to search articles with query '{}': {}", query, e.getMessage(), e);
+            throw e;
         }
     }
 
     /**
-     * Force flush any pending documents
+     * Get statistics about indexed articles. Counts come from aggregation requests across the monthly indices
+     * (one per entity mapping in use) and are cached briefly, since dashboards poll this; the pending count is always live.
+     * A failed request is not cached and propagates, rather than reporting zero articles.
      */
-    public void forceFlush() {
-        if (!batchBuffer.isEmpty()) {
-            logger.info("Force flushing {} pending documents", batchBuffer.size());
-            flushBatch();
+    public IndexingStats getStats() {
+        try {
+            ArticleCounts counts = statsCache.get(STATS_CACHE_KEY, key -> countArticles());
+            return new IndexingStats(
+                    counts.total(),
+                    counts.highPriority(),
+                    counts.conflictRelevant(),
+                    pendingInBulk()
+            );
+
+        } catch (RuntimeException e) {
+            logger.error("Failed to get indexing stats: {}", e.getMessage(), e);
+            throw e;
         }
     }
 
     /**
-     * Search articles by text query
+     * Exact counts without loading documents: size 0, tracked total hits and a filter aggregation per count.
+     * A nested query fails on every shard of an index created before the nested mapping (entities as plain
+     * objects), so those indices are counted separately with a plain term query and the counts added up.
      */
-    public List<ProcessedArticleDocument> searchArticles(String query, int limit) {
-        try {
-            // Simple search implementation
-            // In production, would have more sophisticated search logic
-            return StreamSupport.stream(articleRepository.findAll().spliterator(), false)
-                    .filter(doc -> doc.title().toLowerCase().contains(query.toLowerCase()) ||
-                            (doc.description() != null && doc.description().toLowerCase().contains(query.toLowerCase())))
-                    .limit(limit)
-                    .toList();
+    private ArticleCounts countArticles() {
+        List<String> nestedIndices = new ArrayList<>();
+        List<String> objectIndices = new ArrayList<>();
+        for (IndexInformation index : elasticsearchOperations
+                .indexOps(IndexCoordinates.of(ARTICLES_INDEX_PREFIX + "*")).getInformation()) {
+            (hasNestedEntities(index) ? nestedIndices : objectIndices).add(index.getName());
+        }
 
-        } catch (Exception e) {
-            logger.error("Failed to search articles with query '{}': {}", query, e.getMessage(), e);
-            return List.of();
+        Query conflictRelevant = Query.of(q -> q.term(t -> t.field("entities.conflictRelevant").value(true)));
+        ArticleCounts counts = new ArticleCounts(0, 0, 0);
+        if (!nestedIndices.isEmpty()) {
+            counts = counts.plus(countArticles(nestedIndices,
+                    Query.of(q -> q.nested(n -> n.path("entities").query(conflictRelevant)))));
+        }
+        if (!objectIndices.isEmpty()) {
+            counts = counts.plus(countArticles(objectIndices, conflictRelevant));
         }
+        return counts;
     }
 
-    /**
-     * Get statistics about indexed articles
-     */
-    public IndexingStats getStats() {
-        try {
-            long totalArticles = articleRepository.count();
-            long highPriorityArticles = articleRepository.findByHighPriorityTrue().size();
-            long conflictRelevantArticles = articleRepository.findWithConflictRelevantEntities().size();
+    private ArticleCounts countArticles(List<String> indices, Query conflictRelevant) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.matchAll(all -> all))
+                .withMaxResults(0)
+                .withTrackTotalHits(true)
+                .withAggregation(HIGH_PRIORITY_AGGREGATION, Aggregation.of(a -> a
+                        .filter(f -> f.term(t -> t.field("highPriority").value(true)))))
+                .withAggregation(CONFLICT_RELEVANT_AGGREGATION, Aggregation.of(a -> a.filter(conflictRelevant)))
+                .build();
+
+        SearchHits<ProcessedArticleDocument> searchHits = elasticsearchOperations.search(query,
+                ProcessedArticleDocument.class, IndexCoordinates.of(indices.toArray(String[]::new)));
+
+        if (searchHits.getAggregations() == null) {
+            throw new IllegalStateException("Article stats response carried no aggregations");
+        }
+        Map<String, ElasticsearchAggregation> aggregations =
+                ((ElasticsearchAggregations) searchHits.getAggregations()).aggregationsAsMap();
+        return new ArticleCounts(
+                searchHits.getTotalHits(),
+                docCount(aggregations, HIGH_PRIORITY_AGGREGATION),
+                docCount(aggregations, CONFLICT_RELEVANT_AGGREGATION)
+        );
+    }
 
-            return new IndexingStats(
-                    totalArticles,
-                    highPriorityArticles,
-                    conflictRelevantArticles,
-                    batchBuffer.size()
-            );
+    private static boolean hasNestedEntities(IndexInformation index) {
+        Document mapping = index.getMapping();
+        return mapping != null
+                && mapping.get("properties") instanceof Map<?, ?> properties
+                && properties.get("entities") instanceof Map<?, ?> entities
+                && "nested".equals(entities.get("type"));
+    }
 
-        } catch (Exception e) {
-            logger.error("Failed to get indexing stats: {}", e.getMessage(), e);
-            return new IndexingStats(0, 0, 0, batchBuffer.size());
+    private static long docCount(Map<String, ElasticsearchAggregation> aggregations, String name) {
+        ElasticsearchAggregation aggregation = aggregations.get(name);
+        if (aggregation == null) {
+            throw new IllegalStateException("Article stats response is missing the " + name + " aggregation");
         }
+        return aggregation.aggregation().getAggregate().filter().docCount();
     }
 
+    private record ArticleCounts(long total, long highPriority, long conflictRelevant) {
+        ArticleCounts plus(ArticleCounts other) {
+            return new ArticleCounts(total + other.total, highPriority + other.highPriority,
+                    conflictRelevant + other.conflictRelevant);
+        }
+    }
+
+    private int pendingInBulk() {
+        return bulkIndexer.pending();
+    }
+
+    public record ArticleSearchResult(
+            long totalHits,
+            List<ArticleHit> hits,
+            String nextCursor
+    ) {}
+
+    public record ArticleHit(
+            ProcessedArticleDocument article,
+            float score,
+            Map<String, List<String>> highlights
+    ) {}
+
     public record IndexingStats(
             long totalArticles,
             long highPriorityArticles,
@@ -0,0 +1,49 @@
+package io.conflictradar.processing.service.elasticsearch;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Current monthly article index (articles-2025-08), the same name the document's SpEL index expression yields.
+ * Resolved once per month instead of per operation; on rollover the new index is handed to {@code onRollover}
+ * (which creates it with its settings and mapping) before it is first returned. If that throws, nothing is
+ * remembered and the next call tries again.
+ */
+class MonthlyIndexName implements Supplier<String> {
+
+    private final String prefix;
+    private final Clock clock;
+    private final Consumer<String> onRollover;
+    private volatile Resolved current;
+
+    private record Resolved(YearMonth month, String index) {}
+
+    MonthlyIndexName(String prefix, Clock clock, Consumer<String> onRollover) {
+        this.prefix = prefix;
+        this.clock = clock;
+        this.onRollover = onRollover;
+    }
+
+    @Override
+    public String get() {
+        YearMonth month = YearMonth.now(clock);
+        Resolved resolved = current;
+        if (resolved != null && resolved.month().equals(month)) {
+            return resolved.index();
+        }
+        return rollOver(month);
+    }
+
+    private synchronized String rollOver(YearMonth month) {
+        Resolved resolved = current;
+        if (resolved == null || !resolved.month().equals(month)) {
+            String index = prefix + month;
+            onRollover.accept(index);
+            current = new Resolved(month, index);
+            return index;
+        }
+        return resolved.index();
+    }
+}
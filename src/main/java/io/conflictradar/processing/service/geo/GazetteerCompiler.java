@@ -0,0 +1,155 @@
+package io.conflictradar.processing.service.geo;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes an in-memory gazetteer to the binary format read by {@link MappedGazetteerIndex}
+ */
+final class GazetteerCompiler {
+
+    private GazetteerCompiler() {
+    }
+
+    /**
+     * Compile to a temporary file and move it into place, so concurrent readers never see a partial file.
+     * {@code sourceConfig} describes the settings the index was loaded with and is stored in the header,
+     * so a later start can tell whether the file still matches its configuration.
+     */
+    static void compile(InMemoryGazetteerIndex index, Path target, String sourceConfig) throws IOException {
+        List<GazetteerPlace> places = index.places();
+        String[] keys = index.keys();
+
+        StringTable strings = new StringTable();
+        int sourceConfigRef = strings.ref(sourceConfig);
+        int[] placeStrings = new int[places.size() * 3];
+        for (int i = 0; i < places.size(); i++) {
+            GazetteerPlace place = places.get(i);
+            placeStrings[i * 3] = strings.ref(place.name());
+            placeStrings[i * 3 + 1] = strings.ref(place.countryCode());
+            placeStrings[i * 3 + 2] = strings.ref(place.featureCode());
+        }
+
+        int[] keyRefs = new int[keys.length];
+        int totalCandidates = 0;
+        for (int i = 0; i < keys.length; i++) {
+            keyRefs[i] = strings.ref(keys[i]);
+            totalCandidates += index.candidates(i).length;
+        }
+
+        int hashSlots = MappedGazetteerIndex.hashSlots(keys.length);
+        int[] hashTable = new int[hashSlots];
+        for (int i = 0; i < keys.length; i++) {
+            int slot = MappedGazetteerIndex.hash(keys[i].getBytes(StandardCharsets.UTF_8)) & (hashSlots - 1);
+            while (hashTable[slot] != 0) {
+                slot = (slot + 1) & (hashSlots - 1);
+            }
+            hashTable[slot] = i + 1;
+        }
+
+        long placesOffset = MappedGazetteerIndex.HEADER_BYTES;
+        long keysOffset = placesOffset + (long) places.size() * MappedGazetteerIndex.PLACE_BYTES;
+        long hashOffset = keysOffset + (long) keys.length * MappedGazetteerIndex.KEY_BYTES;
+        long candidatesOffset = hashOffset + (long) hashSlots * 4;
+        long stringsOffset = candidatesOffset + (long) totalCandidates * 4;
+        if (stringsOffset + strings.size() > Integer.MAX_VALUE) {
+            throw new IOException("Gazetteer too large for the binary format, restrict feature classes or files");
+        }
+
+        Path directory = Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temporary = Files.createTempFile(directory, "gazetteer", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MappedGazetteerIndex.MAGIC);
+                out.writeInt(MappedGazetteerIndex.VERSION);
+                out.writeInt(places.size());
+                out.writeInt(keys.length);
+                out.writeInt(hashSlots);
+                out.writeInt(sourceConfigRef);
+                out.writeLong(placesOffset);
+                out.writeLong(keysOffset);
+                out.writeLong(hashOffset);
+                out.writeLong(candidatesOffset);
+                out.writeLong(stringsOffset);
+
+                for (int i = 0; i < places.size(); i++) {
+                    GazetteerPlace place = places.get(i);
+                    out.writeDouble(place.latitude());
+                    out.writeDouble(place.longitude());
+                    out.writeLong(place.population());
+                    out.writeInt(placeStrings[i * 3]);
+                    out.writeInt(placeStrings[i * 3 + 1]);
+                    out.writeInt(placeStrings[i * 3 + 2]);
+                }
+
+                int candidatesStart = 0;
+                for (int i = 0; i < keys.length; i++) {
+                    int candidatesCount = index.candidates(i).length;
+                    out.writeInt(keyRefs[i]);
+                    out.writeInt(candidatesStart);
+                    out.writeInt(candidatesCount);
+                    candidatesStart += candidatesCount;
+                }
+
+                for (int slot : hashTable) {
+                    out.writeInt(slot);
+                }
+
+                for (int i = 0; i < keys.length; i++) {
+                    for (int placeIndex : index.candidates(i)) {
+                        out.writeInt(placeIndex);
+                    }
+                }
+
+                strings.writeTo(out);
+            }
+
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Deduplicated, length-prefixed UTF-8 strings
+     */
+    private static final class StringTable {
+
+        private final Map<String, Integer> refs = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        int ref(String value) {
+            String string = value == null ? "" : value;
+            return refs.computeIfAbsent(string, s -> {
+                byte[] encoded = s.getBytes(StandardCharsets.UTF_8);
+                if (encoded.length > 0xFFFF) {
+                    throw new IllegalArgumentException("Gazetteer string too long: " + s.substring(0, 50));
+                }
+                int ref = bytes.size();
+                bytes.write(encoded.length >>> 8);
+                bytes.write(encoded.length);
+                bytes.writeBytes(encoded);
+                return ref;
+            });
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            bytes.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.conflictradar.processing.service.geo;
+
+import java.util.List;
+
+/**
+ * Offline place-name index: name or alternate name to candidate places, most relevant first
+ */
+public interface GazetteerIndex {
+
+    int MAX_PREFIX_KEYS = 256;
+
+    /**
+     * Candidates for a place name, matched on its folded form
+     */
+    List<GazetteerPlace> lookup(String name);
+
+    /**
+     * Candidates for every name that starts with the folded prefix, most relevant first, at most {@code limit}.
+     * Only the first {@link #MAX_PREFIX_KEYS} matching names are considered, so short prefixes stay cheap.
+     */
+    List<GazetteerPlace> lookupPrefix(String prefix, int limit);
+
+    /**
+     * Number of places in the index
+     */
+    int size();
+}
@@ -0,0 +1,43 @@
+package io.conflictradar.processing.service.geo;
+
+import java.util.Comparator;
+
+/**
+ * A place from the offline GeoNames gazetteer
+ */
+public record GazetteerPlace(
+        String name,
+        String countryCode,
+        double latitude,
+        double longitude,
+        long population,
+        String featureCode
+) {
+
+    /**
+     * Candidates for the same name, most likely first: countries, then regions and capitals, then by population
+     */
+    public static final Comparator<GazetteerPlace> BY_RELEVANCE = Comparator
+            .comparingInt(GazetteerPlace::featureRank)
+            .thenComparing(Comparator.comparingLong(GazetteerPlace::population).reversed());
+
+    /**
+     * Lower is more prominent
+     */
+    public int featureRank() {
+        if (featureCode == null) {
+            return 9;
+        }
+        if (featureCode.startsWith("PCL")) {
+            return 0; // independent / dependent political entity
+        }
+        return switch (featureCode) {
+            case "ADM1" -> 1;
+            case "PPLC" -> 2;
+            case "PPLA", "PPLG" -> 3;
+            case "PPLA2", "PPLA3", "PPLA4" -> 4;
+            case "ADM2", "RGN" -> 6;
+            default -> featureCode.startsWith("PPL") ? 5 : 8;
+        };
+    }
+}
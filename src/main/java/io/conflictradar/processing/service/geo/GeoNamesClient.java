@@ -0,0 +1,152 @@
+package io.conflictradar.processing.service.geo;
+
+import io.conflictradar.processing.config.NlpConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
+import io.conflictradar.processing.service.geo.GeoNamesService.GeoNamesResponse;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Non-blocking GeoNames search client.
+ * Requests run on a bounded Reactor Netty connection pool, share one token-bucket rate limit,
+ * and are retried with jittered backoff; a 429 pauses the shared limiter for the Retry-After period.
+ * When the limiter can't grant a permit within the resolution deadline, the search fails with
+ * {@link RejectedExecutionException} instead of queueing behind other lookups.
+ */
+@Component
+public class GeoNamesClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeoNamesClient.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(200);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private final WebClient webClient;
+    private final ProcessingConfig config;
+    private final TokenBucket rateLimiter;
+
+    public GeoNamesClient(ProcessingConfig config) {
+        this.config = config;
+        NlpConfig.Geographic geographic = config.nlp().geographic();
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("geonames")
+                .maxConnections(geographic.maxConnections())
+                .pendingAcquireMaxCount(geographic.maxConnections() * 4)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000)
+                .responseTimeout(REQUEST_TIMEOUT)
+                .compress(true);
+
+        this.webClient = WebClient.builder()
+                .baseUrl(geographic.geonamesBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        this.rateLimiter = new TokenBucket(geographic.requestsPerSecond(),
+                (int) Math.max(1, Math.ceil(geographic.requestsPerSecond())));
+    }
+
+    /**
+     * Search for the best populated place matching the name
+     */
+    public Mono<Optional<GeoNamesResponse.GeoName>> search(String locationName) {
+        return Mono.defer(() -> throttled(request(locationName)))
+                .retryWhen(Retry.backoff(config.nlp().geographic().maxRetries(), MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .jitter(0.5)
+                        .filter(GeoNamesClient::isRetryable)
+                        .doBeforeRetry(signal -> logger.debug("Retrying GeoNames lookup for '{}' (attempt {}): {}",
+                                locationName, signal.totalRetries() + 1, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<GeoNamesResponse> request(String locationName) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/searchJSON")
+                        .queryParam("q", locationName.trim())
+                        .queryParam("maxRows", "1")
+                        .queryParam("featureClass", "P") // Populated places
+                        .queryParam("username", config.nlp().geographic().geonamesApiKey())
+                        .build())
+                .retrieve()
+                .bodyToMono(GeoNamesResponse.class)
+                .doOnError(WebClientResponseException.TooManyRequests.class, e -> {
+                    Duration retryAfter = retryAfter(e.getHeaders());
+                    logger.warn("GeoNames API rate limit exceeded, pausing requests for {}", retryAfter);
+                    rateLimiter.pause(retryAfter);
+                });
+    }
+
+    /**
+     * Delay the request until the shared limiter grants a permit. A permit further away than the resolution
+     * deadline is refused rather than queued, and a permit whose caller cancels while waiting is given back.
+     */
+    private Mono<Optional<GeoNamesResponse.GeoName>> throttled(Mono<GeoNamesResponse> request) {
+        Duration maxWait = config.nlp().geographic().resolutionTimeout();
+        Optional<Duration> reservation = rateLimiter.reserve(maxWait);
+        if (reservation.isEmpty()) {
+            return Mono.error(new RejectedExecutionException(
+                    "GeoNames rate limit leaves no permit within " + maxWait));
+        }
+
+        Duration delay = reservation.get();
+        Mono<GeoNamesResponse> scheduled = delay.isZero() ? request
+                : Mono.delay(delay).doOnCancel(rateLimiter::release).then(request);
+        return scheduled
+                .map(GeoNamesClient::firstResult)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private static Optional<GeoNamesResponse.GeoName> firstResult(GeoNamesResponse response) {
+        if (response.geonames() == null || response.geonames().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(response.geonames().get(0));
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().value() == 429 || e.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value != null) {
+            try {
+                return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form - fall back to the default pause
+            }
+        }
+        return DEFAULT_RETRY_AFTER;
+    }
+}
@@ -0,0 +1,212 @@
+package io.conflictradar.processing.service.geo;
+
+import io.conflictradar.processing.config.ProcessingConfig;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+/**
+ * Offline GeoNames gazetteer loaded from local dump files at startup.
+ * Resolves names in-process; GeoNamesService only calls the remote API for names it doesn't know.
+ * With a binary path configured, the dump is compiled once and later starts memory-map the compiled file.
+ * The compiled file is only rebuilt when every configured dump is readable; otherwise it is used as it is.
+ */
+@Component
+public class GeoNamesGazetteer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeoNamesGazetteer.class);
+
+    private static final Map<String, String> COUNTRY_NAMES = buildCountryNames();
+    private static final int MIN_PREFIX_LENGTH = 4;
+
+    private final ProcessingConfig config;
+    private volatile GazetteerIndex index = InMemoryGazetteerIndex.empty();
+    private volatile String version = "none";
+
+    public GeoNamesGazetteer(ProcessingConfig config) {
+        this.config = config;
+    }
+
+    @PostConstruct
+    public void load() {
+        List<Path> configured = config.nlp().geographic().gazetteerFiles().stream()
+                .map(Path::of)
+                .toList();
+        List<Path> files = configured.stream()
+                .filter(file -> {
+                    if (!Files.isReadable(file)) {
+                        logger.warn("GeoNames gazetteer file not found: {}", file);
+                        return false;
+                    }
+                    return true;
+                })
+                .toList();
+
+        String binary = config.nlp().geographic().gazetteerBinary();
+        Path binaryFile = StringUtils.hasText(binary) ? Path.of(binary) : null;
+
+        if (files.isEmpty() && (binaryFile == null || !Files.isReadable(binaryFile))) {
+            logger.info("No GeoNames gazetteer files configured, locations resolve through the remote API only");
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            String loadedFrom;
+
+            if (binaryFile == null) {
+                index = loadDump(files);
+                version = describeIndex(files, sourceConfig(files));
+                loadedFrom = "in-memory from " + files;
+
+            } else if (files.isEmpty() || files.size() < configured.size()) {
+                // Binary-only deployment or a missing dump: never replace the compiled file from fewer sources
+                if (Files.isReadable(binaryFile)) {
+                    MappedGazetteerIndex compiled = MappedGazetteerIndex.open(binaryFile);
+                    index = compiled;
+                    version = describeIndex(List.of(binaryFile), compiled.sourceConfig());
+                    loadedFrom = "memory-mapped " + binaryFile + " as compiled";
+                } else {
+                    index = loadDump(files);
+                    version = describeIndex(files, sourceConfig(files));
+                    loadedFrom = "in-memory from " + files + ", not compiled while dumps are missing";
+                }
+
+            } else {
+                String sourceConfig = sourceConfig(files);
+                MappedGazetteerIndex compiled = openIfCurrent(binaryFile, files, sourceConfig);
+                if (compiled == null) {
+                    // First run, updated dump or changed settings: compile once, later starts just map the file
+                    logger.info("Compiling GeoNames gazetteer {} from {}", binaryFile, files);
+                    GazetteerCompiler.compile(loadDump(files), binaryFile, sourceConfig);
+                    compiled = MappedGazetteerIndex.open(binaryFile);
+                }
+                index = compiled;
+                List<Path> sources = new ArrayList<>(files);
+                sources.add(binaryFile);
+                version = describeIndex(sources, sourceConfig);
+                loadedFrom = "memory-mapped " + binaryFile;
+            }
+
+            logger.info("Loaded GeoNames gazetteer with {} places in {}ms ({})",
+                    index.size(), System.currentTimeMillis() - startTime, loadedFrom);
+
+        } catch (Exception e) {
+            logger.error("Failed to load GeoNames gazetteer from {}: {}", files, e.getMessage(), e);
+        }
+    }
+
+    private InMemoryGazetteerIndex loadDump(List<Path> files) throws IOException {
+        return InMemoryGazetteerIndex.load(files, Set.copyOf(config.nlp().geographic().gazetteerFeatureClasses()));
+    }
+
+    /**
+     * Place count, settings and the newest modification time of the files the index was loaded from
+     */
+    private String describeIndex(List<Path> sources, String sourceConfig) throws IOException {
+        FileTime modified = FileTime.fromMillis(0);
+        for (Path source : sources) {
+            FileTime sourceModified = Files.getLastModifiedTime(source);
+            if (sourceModified.compareTo(modified) > 0) {
+                modified = sourceModified;
+            }
+        }
+        return "places=" + index.size() + ",modified=" + modified + "," + sourceConfig;
+    }
+
+    /**
+     * Everything that decides the compiled content besides the dump data itself
+     */
+    private String sourceConfig(List<Path> files) {
+        return "featureClasses=" + new TreeSet<>(config.nlp().geographic().gazetteerFeatureClasses())
+                + ";files=" + files.stream().map(file -> file.toAbsolutePath().normalize().toString()).toList();
+    }
+
+    /**
+     * The compiled file, or null when it is missing, in an older format, compiled with other settings
+     * or older than any of the dump files it is compiled from
+     */
+    private MappedGazetteerIndex openIfCurrent(Path binaryFile, List<Path> files, String sourceConfig) {
+        if (!Files.exists(binaryFile)) {
+            return null;
+        }
+
+        try {
+            FileTime compiledAt = Files.getLastModifiedTime(binaryFile);
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).compareTo(compiledAt) > 0) {
+                    return null;
+                }
+            }
+
+            MappedGazetteerIndex compiled = MappedGazetteerIndex.open(binaryFile);
+            if (!compiled.sourceConfig().equals(sourceConfig)) {
+                logger.info("GeoNames gazetteer {} was compiled with {}, now {}",
+                        binaryFile, compiled.sourceConfig(), sourceConfig);
+                return null;
+            }
+            return compiled;
+
+        } catch (IOException e) {
+            logger.info("Recompiling GeoNames gazetteer {}: {}", binaryFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Most relevant place for a name, if the gazetteer knows it. A name it only knows with more words
+     * ("Kherson" for "Kherson Oblast") resolves to the most relevant of those whole-word extensions.
+     */
+    public Optional<GazetteerPlace> resolve(String locationName) {
+        Optional<GazetteerPlace> exact = resolveExact(locationName);
+        if (exact.isPresent() || PlaceNames.fold(locationName).length() < MIN_PREFIX_LENGTH) {
+            return exact;
+        }
+        List<GazetteerPlace> candidates = index.lookupPrefix(locationName.trim() + " ", 1);
+        return candidates.isEmpty() ? Optional.empty() : Optional.of(candidates.get(0));
+    }
+
+    /**
+     * Most relevant place known by exactly this name, without extending it to longer names
+     */
+    public Optional<GazetteerPlace> resolveExact(String locationName) {
+        List<GazetteerPlace> candidates = index.lookup(locationName);
+        return candidates.isEmpty() ? Optional.empty() : Optional.of(candidates.get(0));
+    }
+
+    public boolean isLoaded() {
+        return index.size() > 0;
+    }
+
+    /**
+     * Identifies the loaded index (place count, settings, source file times); "none" when nothing is loaded.
+     * Results derived from the gazetteer and cached elsewhere key on it.
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * English country name for an ISO 3166 code
+     */
+    public String countryName(String countryCode) {
+        return COUNTRY_NAMES.getOrDefault(countryCode, countryCode);
+    }
+
+    private static Map<String, String> buildCountryNames() {
+        Map<String, String> names = new HashMap<>();
+        for (String countryCode : Locale.getISOCountries()) {
+            names.put(countryCode, new Locale.Builder().setRegion(countryCode).build()
+                    .getDisplayCountry(Locale.ENGLISH));
+        }
+        return Map.copyOf(names);
+    }
+}
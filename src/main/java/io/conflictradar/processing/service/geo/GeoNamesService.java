@@ -1,138 +1,251 @@
 package io.conflictradar.processing.service.geo;
 
+import io.conflictradar.processing.config.ExecutorConfig;
 import io.conflictradar.processing.config.ProcessingConfig;
 import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.lexicon.ConflictLexicons;
+import io.conflictradar.processing.lexicon.ConflictMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class GeoNamesService {
 
     private static final Logger logger = LoggerFactory.getLogger(GeoNamesService.class);
 
-    private final WebClient webClient;
-    private final ProcessingConfig config;
+    private static final int MAX_LOCATIONS_PER_ARTICLE = 5;
+    private static final String CACHE_NAME = "geoResolution";
 
-    public GeoNamesService(ProcessingConfig config) {
+    private final ProcessingConfig config;
+    private final GeoNamesGazetteer gazetteer;
+    private final GeoNamesClient geoNamesClient;
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final Scheduler geoScheduler;
+
+    public GeoNamesService(ProcessingConfig config, GeoNamesGazetteer gazetteer, GeoNamesClient geoNamesClient,
+                           ObjectProvider<CacheManager> cacheManager,
+                           @Qualifier(ExecutorConfig.GEO_EXECUTOR) Executor geoExecutor) {
         this.config = config;
-        this.webClient = WebClient.builder()
-                .baseUrl(config.nlp().geographic().geonamesBaseUrl())
-                .build();
+        this.gazetteer = gazetteer;
+        this.geoNamesClient = geoNamesClient;
+        this.cacheManager = cacheManager;
+        this.geoScheduler = Schedulers.fromExecutor(geoExecutor);
     }
 
     /**
-     * Resolve location entities to coordinates with caching
+     * Resolve location entities to coordinates. Blocks the caller until the result is ready,
+     * which is bounded by the per-article resolution deadline.
      */
     public GeographicResolutionResult resolveLocations(List<ExtractedEntity> locationEntities) {
+        return resolveLocationsAsync(locationEntities).join();
+    }
+
+    /**
+     * Resolve location entities to coordinates without blocking. Distinct names are looked up
+     * concurrently and the result is built from whatever finished within the per-article deadline.
+     * Cancelling the returned future cancels the lookups still running.
+     */
+    public CompletableFuture<GeographicResolutionResult> resolveLocationsAsync(List<ExtractedEntity> locationEntities) {
         if (locationEntities.isEmpty()) {
-            return GeographicResolutionResult.empty();
+            return CompletableFuture.completedFuture(GeographicResolutionResult.empty());
         }
 
         logger.debug("Resolving {} location entities to coordinates", locationEntities.size());
 
         try {
+            long startTime = System.currentTimeMillis();
+
             // Find primary location (highest confidence or first conflict zone)
             ExtractedEntity primaryEntity = findPrimaryLocation(locationEntities);
 
-            GeoLocation primaryLocation = null;
-            if (primaryEntity != null) {
-                primaryLocation = resolveLocation(primaryEntity.text()).get();
+            // One lookup per distinct case-folded name (limit to avoid API rate limits)
+            Map<String, CompletableFuture<Optional<GeoLocation>>> lookups = new LinkedHashMap<>();
+            locationEntities.stream()
+                    .map(ExtractedEntity::text)
+                    .filter(name -> lookups.size() < MAX_LOCATIONS_PER_ARTICLE)
+                    .forEach(name -> lookups.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> resolveLocationAsync(name)));
+
+            // The primary location reuses its lookup unless it fell outside the limit
+            CompletableFuture<Optional<GeoLocation>> primaryLookup = primaryEntity == null ? null :
+                    lookups.containsKey(primaryEntity.text().toLowerCase(Locale.ROOT))
+                            ? lookups.get(primaryEntity.text().toLowerCase(Locale.ROOT))
+                            : resolveLocationAsync(primaryEntity.text());
+
+            List<CompletableFuture<Optional<GeoLocation>>> pending = new ArrayList<>(lookups.values());
+            if (primaryLookup != null) {
+                pending.add(primaryLookup);
             }
 
-            // Resolve other locations (limit to avoid API rate limits)
-            List<GeoLocation> allLocations = locationEntities.stream()
-                    .limit(5) // Limit to 5 locations to avoid rate limits
-                    .map(entity -> resolveLocation(entity.text()))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .toList();
-
-            double overallConfidence = calculateOverallConfidence(allLocations);
-
-            return new GeographicResolutionResult(
-                    primaryLocation,
-                    allLocations,
-                    overallConfidence,
-                    System.currentTimeMillis()
-            );
+            Duration deadline = config.nlp().geographic().resolutionTimeout();
+            CompletableFuture<GeographicResolutionResult> result = CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .handle((ignored, error) -> true)
+                    .completeOnTimeout(false, deadline.toMillis(), TimeUnit.MILLISECONDS)
+                    .thenApply(allDone -> {
+                        if (!allDone) {
+                            logger.warn("Geographic resolution exceeded {}, using {} of {} lookups",
+                                    deadline, pending.stream().filter(CompletableFuture::isDone).count(), pending.size());
+                            // Stop the late lookups (and their API requests) instead of letting them run on
+                            pending.forEach(lookup -> lookup.cancel(true));
+                        }
+
+                        GeoLocation primaryLocation = primaryLookup == null ? null
+                                : completedLocation(primaryLookup).orElse(null);
+
+                        List<GeoLocation> allLocations = lookups.values().stream()
+                                .map(this::completedLocation)
+                                .filter(Optional::isPresent)
+                                .map(Optional::get)
+                                .toList();
+
+                        return new GeographicResolutionResult(
+                                primaryLocation,
+                                allLocations,
+                                calculateOverallConfidence(allLocations),
+                                System.currentTimeMillis() - startTime
+                        );
+                    });
+
+            // A caller that gives up on the result stops the lookups too
+            result.whenComplete((ignored, error) -> {
+                if (error instanceof CancellationException) {
+                    pending.forEach(lookup -> lookup.cancel(true));
+                }
+            });
+            return result;
 
         } catch (Exception e) {
             logger.error("Failed to resolve geographic locations: {}", e.getMessage(), e);
-            return GeographicResolutionResult.empty();
+            return CompletableFuture.completedFuture(GeographicResolutionResult.empty());
         }
     }
 
+    private Optional<GeoLocation> completedLocation(CompletableFuture<Optional<GeoLocation>> lookup) {
+        return lookup.isDone() && !lookup.isCompletedExceptionally() ? lookup.join() : Optional.empty();
+    }
+
     /**
-     * Resolve single location to coordinates with caching
+     * Resolve single location to coordinates, blocking until the lookup completes
      */
-    @Cacheable(value = "geoResolution", key = "#locationName.toLowerCase()")
     public Optional<GeoLocation> resolveLocation(String locationName) {
+        return resolveLocationAsync(locationName).join();
+    }
+
+    /**
+     * Resolve single location to coordinates without blocking.
+     * Gazetteer and cache lookups run on the geo executor; remote results are cached in "geoResolution".
+     * A saturated executor leaves the location unresolved. Cancelling the future cancels the lookup,
+     * including an API request in flight.
+     */
+    public CompletableFuture<Optional<GeoLocation>> resolveLocationAsync(String locationName) {
         if (locationName == null || locationName.trim().isEmpty()) {
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        try {
-            logger.debug("Resolving location: {}", locationName);
-
-            // Query GeoNames API
-            GeoNamesResponse response = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/searchJSON")
-                            .queryParam("q", locationName.trim())
-                            .queryParam("maxRows", "1")
-                            .queryParam("featureClass", "P") // Populated places
-                            .queryParam("username", config.nlp().geographic().geonamesApiKey())
-                            .build())
-                    .retrieve()
-                    .bodyToMono(GeoNamesResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-
-            if (response != null && response.geonames() != null && !response.geonames().isEmpty()) {
-                GeoNamesResponse.GeoName geoName = response.geonames().get(0);
-
-                GeoLocation location = new GeoLocation(
-                        geoName.name(),
-                        geoName.countryName(),
-                        geoName.lat(),
-                        geoName.lng(),
-                        formatCoordinates(geoName.lat(), geoName.lng()),
-                        calculateConfidence(locationName, geoName),
-                        isConflictZone(geoName.name(), geoName.countryName())
-                );
-
-                logger.debug("Resolved '{}' to: {} ({}, {}) confidence: {:.2f}",
-                        locationName, location.name(), location.latitude(), location.longitude(), location.confidence());
-
-                return Optional.of(location);
-            } else {
-                logger.debug("No results found for location: {}", locationName);
-                return Optional.empty();
-            }
+        return Mono.defer(() -> lookupLocation(locationName))
+                .subscribeOn(geoScheduler)
+                .onErrorResume(RejectedExecutionException.class, e -> {
+                    logger.warn("Geo executor saturated, skipping lookup for '{}'", locationName);
+                    return Mono.just(Optional.empty());
+                })
+                .toFuture();
+    }
 
-        } catch (WebClientResponseException e) {
-            if (e.getStatusCode().value() == 429) {
-                logger.warn("GeoNames API rate limit exceeded for: {}", locationName);
-            } else {
-                logger.error("GeoNames API error for '{}': {} {}",
-                        locationName, e.getStatusCode(), e.getResponseBodyAsString());
-            }
-            return Optional.empty();
+    private Mono<Optional<GeoLocation>> lookupLocation(String locationName) {
+        // Offline gazetteer first - no network round trip
+        Optional<GazetteerPlace> place = gazetteer.resolve(locationName);
+        if (place.isPresent()) {
+            GazetteerPlace resolved = place.get();
+            return Mono.just(Optional.of(toGeoLocation(locationName, new GeoNamesResponse.GeoName(
+                    resolved.name(),
+                    gazetteer.countryName(resolved.countryCode()),
+                    resolved.latitude(),
+                    resolved.longitude(),
+                    (int) Math.min(resolved.population(), Integer.MAX_VALUE)
+            ))));
+        }
 
-        } catch (Exception e) {
-            logger.error("Failed to resolve location '{}': {}", locationName, e.getMessage(), e);
-            return Optional.empty();
+        if (!config.nlp().geographic().remoteFallback()) {
+            logger.debug("Location not in gazetteer and remote fallback disabled: {}", locationName);
+            return Mono.just(Optional.empty());
+        }
+
+        String cacheKey = locationName.toLowerCase();
+        Cache cache = geoCache();
+        if (cache != null) {
+            Cache.ValueWrapper cached = cache.get(cacheKey);
+            if (cached != null) {
+                // Unknown names are cached as null; anything else is read back typed (a promoted L1 hit by now)
+                return Mono.just(cached.get() == null ? Optional.empty()
+                        : Optional.ofNullable(cache.get(cacheKey, GeoLocation.class)).map(this::withCurrentLexicon));
+            }
         }
+
+        logger.debug("Resolving location: {}", locationName);
+
+        return geoNamesClient.search(locationName)
+                // The cache write may go to Redis; keep it off the Netty event loop
+                .publishOn(geoScheduler)
+                .map(result -> {
+                    if (result.isEmpty()) {
+                        logger.debug("No results found for location: {}", locationName);
+                    }
+                    Optional<GeoLocation> location = result.map(geoName -> toGeoLocation(locationName, geoName));
+                    if (cache != null) {
+                        cache.put(cacheKey, location.orElse(null));
+                    }
+                    return location;
+                })
+                .onErrorResume(e -> {
+                    if (e instanceof RejectedExecutionException) {
+                        // Shed by the rate limiter: leave unresolved and uncached, a later article may resolve it
+                        logger.warn("Skipping GeoNames lookup for '{}': {}", locationName, e.getMessage());
+                    } else if (e instanceof WebClientResponseException responseException) {
+                        logger.error("GeoNames API error for '{}': {} {}",
+                                locationName, responseException.getStatusCode(), responseException.getResponseBodyAsString());
+                    } else {
+                        logger.error("Failed to resolve location '{}': {}", locationName, e.getMessage());
+                    }
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private Cache geoCache() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        return manager != null ? manager.getCache(CACHE_NAME) : null;
+    }
+
+    private GeoLocation toGeoLocation(String locationName, GeoNamesResponse.GeoName geoName) {
+        GeoLocation location = new GeoLocation(
+                geoName.name(),
+                geoName.countryName(),
+                geoName.lat(),
+                geoName.lng(),
+                formatCoordinates(geoName.lat(), geoName.lng()),
+                calculateConfidence(locationName, geoName),
+                isConflictZone(geoName.name(), geoName.countryName())
+        );
+
+        logger.debug("Resolved '{}' to: {} ({}, {}) confidence: {:.2f}",
+                locationName, location.name(), location.latitude(), location.longitude(), location.confidence());
+
+        return location;
     }
 
     /**
@@ -178,30 +291,21 @@ public class GeoNamesService {
      * Check if location is in a known conflict zone
      */
     private boolean isConflictZone(String cityName, String countryName) {
-        String[] conflictCountries = {
-                "ukraine", "syria", "afghanistan", "iraq", "yemen", "somalia", "sudan", "myanmar"
-        };
-
-        String[] conflictCities = {
-                "gaza", "donetsk", "mariupol", "kharkiv", "aleppo", "kabul", "baghdad"
-        };
-
-        String cityLower = cityName.toLowerCase();
-        String countryLower = countryName.toLowerCase();
-
-        for (String country : conflictCountries) {
-            if (countryLower.contains(country)) {
-                return true;
-            }
-        }
+        ConflictMatcher matcher = ConflictLexicons.matcher();
+        return matcher.isConflictLocation(countryName) || matcher.isConflictLocation(cityName);
+    }
 
-        for (String city : conflictCities) {
-            if (cityLower.contains(city)) {
-                return true;
-            }
+    /**
+     * A cached location keeps the conflict-zone flag of the lexicon it was resolved under;
+     * re-derive it so a reloaded lexicon applies to cached locations right away
+     */
+    private GeoLocation withCurrentLexicon(GeoLocation location) {
+        boolean conflictZone = isConflictZone(location.name(), location.country());
+        if (conflictZone == location.isConflictZone()) {
+            return location;
         }
-
-        return false;
+        return new GeoLocation(location.name(), location.country(), location.latitude(), location.longitude(),
+                location.coordinates(), location.confidence(), conflictZone);
     }
 
     /**
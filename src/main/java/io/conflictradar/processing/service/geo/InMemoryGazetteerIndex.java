@@ -0,0 +1,180 @@
+package io.conflictradar.processing.service.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Gazetteer held on the heap: places plus a sorted key table with ranked candidate lists.
+ * The sorted table answers exact lookups and prefix lookups by binary search.
+ */
+final class InMemoryGazetteerIndex implements GazetteerIndex {
+
+    // GeoNames dump columns (tab-separated)
+    private static final int COL_NAME = 1;
+    private static final int COL_ASCII_NAME = 2;
+    private static final int COL_ALTERNATE_NAMES = 3;
+    private static final int COL_LATITUDE = 4;
+    private static final int COL_LONGITUDE = 5;
+    private static final int COL_FEATURE_CLASS = 6;
+    private static final int COL_FEATURE_CODE = 7;
+    private static final int COL_COUNTRY_CODE = 8;
+    private static final int COL_POPULATION = 14;
+
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final List<GazetteerPlace> places;
+    private final String[] keys;
+    private final int[][] candidates;
+
+    private InMemoryGazetteerIndex(List<GazetteerPlace> places, String[] keys, int[][] candidates) {
+        this.places = places;
+        this.keys = keys;
+        this.candidates = candidates;
+    }
+
+    static InMemoryGazetteerIndex empty() {
+        return new Builder().build();
+    }
+
+    /**
+     * Load GeoNames dump files (cities15000.txt, allCountries.txt, ...) keeping only the given feature classes
+     */
+    static InMemoryGazetteerIndex load(List<Path> files, Set<String> featureClasses) throws IOException {
+        Builder builder = new Builder();
+
+        for (Path file : files) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] columns = line.split("\t", -1);
+                    if (columns.length <= COL_POPULATION || !featureClasses.contains(columns[COL_FEATURE_CLASS])) {
+                        continue;
+                    }
+
+                    GazetteerPlace place = new GazetteerPlace(
+                            columns[COL_NAME],
+                            columns[COL_COUNTRY_CODE],
+                            Double.parseDouble(columns[COL_LATITUDE]),
+                            Double.parseDouble(columns[COL_LONGITUDE]),
+                            columns[COL_POPULATION].isEmpty() ? 0 : Long.parseLong(columns[COL_POPULATION]),
+                            columns[COL_FEATURE_CODE]
+                    );
+
+                    List<String> names = new ArrayList<>();
+                    names.add(columns[COL_NAME]);
+                    names.add(columns[COL_ASCII_NAME]);
+                    if (!columns[COL_ALTERNATE_NAMES].isEmpty()) {
+                        names.addAll(Arrays.asList(columns[COL_ALTERNATE_NAMES].split(",")));
+                    }
+
+                    builder.add(place, names);
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public List<GazetteerPlace> lookup(String name) {
+        int keyIndex = Arrays.binarySearch(keys, PlaceNames.fold(name));
+        if (keyIndex < 0) {
+            return List.of();
+        }
+
+        int[] placeIndexes = candidates[keyIndex];
+        List<GazetteerPlace> result = new ArrayList<>(placeIndexes.length);
+        for (int placeIndex : placeIndexes) {
+            result.add(places.get(placeIndex));
+        }
+        return result;
+    }
+
+    @Override
+    public List<GazetteerPlace> lookupPrefix(String prefix, int limit) {
+        String folded = PlaceNames.foldPrefix(prefix);
+        if (folded.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Keys are sorted, so every key with the prefix follows its insertion point
+        int from = Arrays.binarySearch(keys, folded);
+        if (from < 0) {
+            from = -from - 1;
+        }
+
+        Set<Integer> placeIndexes = new LinkedHashSet<>();
+        for (int i = from; i < keys.length && i < from + MAX_PREFIX_KEYS && keys[i].startsWith(folded); i++) {
+            for (int placeIndex : candidates[i]) {
+                placeIndexes.add(placeIndex);
+            }
+        }
+
+        return placeIndexes.stream()
+                .map(places::get)
+                .sorted(GazetteerPlace.BY_RELEVANCE)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int size() {
+        return places.size();
+    }
+
+    List<GazetteerPlace> places() {
+        return places;
+    }
+
+    String[] keys() {
+        return keys;
+    }
+
+    int[] candidates(int keyIndex) {
+        return candidates[keyIndex];
+    }
+
+    static final class Builder {
+
+        private final List<GazetteerPlace> places = new ArrayList<>();
+        private final Map<String, List<Integer>> placesByKey = new HashMap<>();
+
+        Builder add(GazetteerPlace place, Collection<String> names) {
+            int placeIndex = places.size();
+            places.add(place);
+
+            Set<String> placeKeys = new HashSet<>();
+            for (String name : names) {
+                if (name.length() > MAX_NAME_LENGTH) {
+                    continue;
+                }
+                String key = PlaceNames.fold(name);
+                if (key.length() > 1 && placeKeys.add(key)) {
+                    placesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(placeIndex);
+                }
+            }
+            return this;
+        }
+
+        InMemoryGazetteerIndex build() {
+            String[] keys = placesByKey.keySet().toArray(String[]::new);
+            Arrays.sort(keys);
+
+            Comparator<Integer> ranking = Comparator.comparing(places::get, GazetteerPlace.BY_RELEVANCE);
+
+            int[][] candidates = new int[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                candidates[i] = placesByKey.get(keys[i]).stream()
+                        .sorted(ranking)
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+
+            return new InMemoryGazetteerIndex(List.copyOf(places), keys, candidates);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.conflictradar.processing.service.geo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Gazetteer queried directly from a memory-mapped binary file written by {@link GazetteerCompiler}.
+ * Nothing is deserialized up front: lookups hash the folded name, probe the on-disk hash directory and
+ * decode only the matching records; prefix lookups binary-search the sorted key table. The mapping lives in the page cache and is shared between processes.
+ *
+ * <pre>
+ * header      MAGIC, VERSION, placeCount, keyCount, hashSlots, sourceConfigRef, section offsets
+ * places      placeCount x [lat f64, lng f64, population i64, nameRef i32, countryRef i32, featureRef i32]
+ * keys        keyCount x [keyRef i32, candidatesStart i32, candidatesCount i32], sorted by key
+ * hash        hashSlots x [keyIndex + 1 i32], open addressing with linear probing, 0 = empty
+ * candidates  place indexes per key, most relevant first
+ * strings     [length u16, UTF-8 bytes]..., refs are offsets into this section
+ * </pre>
+ */
+final class MappedGazetteerIndex implements GazetteerIndex {
+
+    static final int MAGIC = 0x47415A31; // "GAZ1"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 64;
+    static final int PLACE_BYTES = 36;
+    static final int KEY_BYTES = 12;
+
+    private final ByteBuffer buffer;
+    private final int placeCount;
+    private final int keyCount;
+    private final int hashMask;
+    private final int placesOffset;
+    private final int keysOffset;
+    private final int hashOffset;
+    private final int candidatesOffset;
+    private final int stringsOffset;
+    private final int sourceConfigRef;
+
+    private MappedGazetteerIndex(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a gazetteer file of version " + VERSION);
+        }
+
+        this.buffer = buffer;
+        this.placeCount = buffer.getInt(8);
+        this.keyCount = buffer.getInt(12);
+        this.hashMask = buffer.getInt(16) - 1;
+        this.sourceConfigRef = buffer.getInt(20);
+        this.placesOffset = (int) buffer.getLong(24);
+        this.keysOffset = (int) buffer.getLong(32);
+        this.hashOffset = (int) buffer.getLong(40);
+        this.candidatesOffset = (int) buffer.getLong(48);
+        this.stringsOffset = (int) buffer.getLong(56);
+    }
+
+    static MappedGazetteerIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Gazetteer file too large to map: " + channel.size() + " bytes");
+            }
+            // The mapping stays valid after the channel is closed
+            return new MappedGazetteerIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public List<GazetteerPlace> lookup(String name) {
+        byte[] key = PlaceNames.fold(name).getBytes(StandardCharsets.UTF_8);
+
+        int slot = hash(key) & hashMask;
+        int keyIndex;
+        while ((keyIndex = buffer.getInt(hashOffset + slot * 4) - 1) >= 0) {
+            int keyEntry = keysOffset + keyIndex * KEY_BYTES;
+            if (stringEquals(buffer.getInt(keyEntry), key)) {
+                return places(buffer.getInt(keyEntry + 4), buffer.getInt(keyEntry + 8));
+            }
+            slot = (slot + 1) & hashMask;
+        }
+        return List.of();
+    }
+
+    /**
+     * Binary search over the sorted key table, then a scan while keys share the prefix
+     */
+    @Override
+    public List<GazetteerPlace> lookupPrefix(String prefix, int limit) {
+        String folded = PlaceNames.foldPrefix(prefix);
+        if (folded.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Keys were sorted as Strings by the compiler, so compare decoded keys the same way
+        int low = 0;
+        int high = keyCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (key(middle).compareTo(folded) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        Set<Integer> placeIndexes = new LinkedHashSet<>();
+        for (int i = low; i < keyCount && i < low + MAX_PREFIX_KEYS && key(i).startsWith(folded); i++) {
+            int keyEntry = keysOffset + i * KEY_BYTES;
+            int candidatesStart = buffer.getInt(keyEntry + 4);
+            int candidatesCount = buffer.getInt(keyEntry + 8);
+            for (int c = 0; c < candidatesCount; c++) {
+                placeIndexes.add(buffer.getInt(candidatesOffset + (candidatesStart + c) * 4));
+            }
+        }
+
+        return placeIndexes.stream()
+                .map(this::place)
+                .sorted(GazetteerPlace.BY_RELEVANCE)
+                .limit(limit)
+                .toList();
+    }
+
+    private String key(int keyIndex) {
+        return string(buffer.getInt(keysOffset + keyIndex * KEY_BYTES));
+    }
+
+    @Override
+    public int size() {
+        return placeCount;
+    }
+
+    /**
+     * Settings the file was compiled with (feature classes, dump files), as passed to the compiler
+     */
+    String sourceConfig() {
+        return string(sourceConfigRef);
+    }
+
+    private List<GazetteerPlace> places(int candidatesStart, int candidatesCount) {
+        List<GazetteerPlace> result = new ArrayList<>(candidatesCount);
+        for (int i = 0; i < candidatesCount; i++) {
+            result.add(place(buffer.getInt(candidatesOffset + (candidatesStart + i) * 4)));
+        }
+        return result;
+    }
+
+    private GazetteerPlace place(int placeIndex) {
+        int record = placesOffset + placeIndex * PLACE_BYTES;
+        return new GazetteerPlace(
+                string(buffer.getInt(record + 24)),
+                string(buffer.getInt(record + 28)),
+                buffer.getDouble(record),
+                buffer.getDouble(record + 8),
+                buffer.getLong(record + 16),
+                string(buffer.getInt(record + 32))
+        );
+    }
+
+    private String string(int ref) {
+        int position = stringsOffset + ref;
+        byte[] bytes = new byte[buffer.getShort(position) & 0xFFFF];
+        buffer.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean stringEquals(int ref, byte[] expected) {
+        int position = stringsOffset + ref;
+        if ((buffer.getShort(position) & 0xFFFF) != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(position + 2 + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 key, shared with the compiler
+     */
+    static int hash(byte[] key) {
+        int hash = 0x811C9DC5;
+        for (byte b : key) {
+            hash ^= b & 0xFF;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    static int hashSlots(int keyCount) {
+        // Load factor <= 0.5 keeps probe sequences short
+        return Integer.highestOneBit(Math.max(keyCount, 1) * 2 - 1) << 1;
+    }
+}
@@ -0,0 +1,42 @@
+package io.conflictradar.processing.service.geo;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Name folding shared by the gazetteer indexes
+ */
+final class PlaceNames {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private PlaceNames() {
+    }
+
+    /**
+     * Index key for a name: lowercase, ASCII-folded, single-spaced
+     */
+    static String fold(String name) {
+        String decomposed = Normalizer.normalize(name.trim(), Normalizer.Form.NFD);
+        String folded = MARKS.matcher(decomposed).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace("ß", "ss")
+                .replace("æ", "ae")
+                .replace("ø", "o")
+                .replace("ł", "l")
+                .replace("đ", "d")
+                .replace("ı", "i");
+        return WHITESPACE.matcher(folded).replaceAll(" ");
+    }
+
+    /**
+     * Fold a name prefix; a trailing space is kept so the prefix can end on a word boundary ("kherson ")
+     */
+    static String foldPrefix(String prefix) {
+        String folded = fold(prefix);
+        boolean wordBoundary = !folded.isEmpty() && Character.isWhitespace(prefix.charAt(prefix.length() - 1));
+        return wordBoundary ? folded + " " : folded;
+    }
+}
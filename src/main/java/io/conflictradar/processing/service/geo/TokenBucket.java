@@ -0,0 +1,78 @@
+package io.conflictradar.processing.service.geo;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket shared by every caller of the GeoNames API.
+ * Callers reserve a permit and are told how long to wait for it, so nobody parks a thread on the limiter.
+ */
+final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000.0;
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserve one permit, returning how long the caller has to wait before using it. Empty, with nothing
+     * reserved, when the wait would exceed {@code maxWait}, so the debt never grows past what callers can wait for.
+     */
+    synchronized Optional<Duration> reserve(Duration maxWait) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+
+        long waitNanos = Math.max(0, lastRefill - now);
+        if (tokens < 1) {
+            waitNanos += (long) Math.ceil((1 - tokens) / permitsPerNano);
+        }
+        if (waitNanos > maxWait.toNanos()) {
+            return Optional.empty();
+        }
+
+        tokens -= 1;
+        return Optional.of(Duration.ofNanos(waitNanos));
+    }
+
+    /**
+     * Give back a reserved permit that was never used, e.g. because the caller gave up while waiting for it
+     */
+    synchronized void release() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * Hand out no permits until the delay has passed, e.g. after a 429 with Retry-After
+     */
+    synchronized void pause(Duration delay) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens = Math.min(tokens, 0);
+        lastRefill = Math.max(lastRefill, now + delay.toNanos());
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package io.conflictradar.processing.service.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.RetryListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Commits consumer offsets only once the records behind them are durably indexed.
+ * Each tracked record stays pending until its future completes; per partition the committed offset is the
+ * lowest offset still pending, or the one after the highest tracked when nothing is pending. A record whose
+ * future fails is dead-lettered first, so its offset can be committed past; a failed publish is retried with
+ * backoff for as long as the partition stays assigned. Records the error handler forwarded to a retry topic
+ * (or dead-lettered itself) are released as well.
+ * Commits happen on the consumer thread: before each delivery, when the container goes idle and on revocation.
+ */
+@Component
+public class OffsetCommitCoordinator implements ConsumerAwareRebalanceListener, RetryListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffsetCommitCoordinator.class);
+
+    private static final Duration DEAD_LETTER_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_DEAD_LETTER_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final ConsumerRecordRecoverer deadLetterRecoverer;
+    private final Duration deadLetterRetryDelay;
+    private final Counter deadLetterFailures;
+    private final ScheduledExecutorService deadLetterRetries;
+    private final Map<TopicPartition, PartitionOffsets> partitions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OffsetCommitCoordinator(ConsumerRecordRecoverer deadLetterRecoverer, MeterRegistry meterRegistry) {
+        this(deadLetterRecoverer, meterRegistry, DEAD_LETTER_RETRY_DELAY);
+    }
+
+    OffsetCommitCoordinator(ConsumerRecordRecoverer deadLetterRecoverer, MeterRegistry meterRegistry,
+                            Duration deadLetterRetryDelay) {
+        this.deadLetterRecoverer = deadLetterRecoverer;
+        this.deadLetterRetryDelay = deadLetterRetryDelay;
+        this.deadLetterFailures = Counter.builder("processing.offsets.dead_letter_failures")
+                .description("Failed attempts to dead-letter a record, each holding back its partition's offset")
+                .register(meterRegistry);
+        this.deadLetterRetries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dead-letter-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("processing.offsets.pending", this, OffsetCommitCoordinator::pending)
+                .description("Consumed records not yet durably indexed, holding back offset commits")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hold the record's offset until the future completes. Called on the consumer thread.
+     */
+    public void track(ConsumerRecord<?, ?> record, CompletableFuture<?> durable) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        // Completions capture the instance, so a late one after revocation can't touch a newer assignment
+        PartitionOffsets offsets = partitions.computeIfAbsent(partition, key -> new PartitionOffsets());
+        long offset = record.offset();
+        offsets.pending.add(offset);
+        offsets.highestTracked = Math.max(offsets.highestTracked, offset);
+
+        durable.whenComplete((result, ex) -> {
+            if (ex == null) {
+                offsets.pending.remove(offset);
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            deadLetterAndRelease(record, partition, offsets, cause, deadLetterRetryDelay);
+        });
+    }
+
+    /**
+     * The error handler recovered a record (forwarded it to a retry topic or the dead-letter topic),
+     * so its offset can be committed past. Called on the consumer thread.
+     */
+    @Override
+    public void recovered(ConsumerRecord<?, ?> record, Exception ex) {
+        track(record, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * A batch the listener gave up on was dead-lettered record by record
+     */
+    @Override
+    public void recovered(ConsumerRecords<?, ?> records, Exception ex) {
+        records.forEach(record -> recovered(record, ex));
+    }
+
+    @Override
+    public void failedDelivery(ConsumerRecord<?, ?> record, Exception ex, int deliveryAttempt) {
+        // Redelivered in place; nothing to track until it is recovered or processed
+    }
+
+    private void deadLetterAndRelease(ConsumerRecord<?, ?> record, TopicPartition partition, PartitionOffsets offsets,
+                                      Throwable cause, Duration retryDelay) {
+        if (partitions.get(partition) != offsets) {
+            // Revoked meanwhile: the next owner consumes the record again from the last commit
+            logger.debug("Not dead-lettering {}-{}@{}, its partition was revoked",
+                    record.topic(), record.partition(), record.offset());
+            return;
+        }
+
+        try {
+            deadLetterRecoverer.accept(record, cause instanceof Exception e ? e : new IllegalStateException(cause));
+            logger.warn("Dead-lettered {}-{}@{} after indexing failed: {}",
+                    record.topic(), record.partition(), record.offset(), cause.getMessage());
+            offsets.pending.remove(record.offset());
+
+        } catch (Exception e) {
+            deadLetterFailures.increment();
+            logger.error("Failed to dead-letter {}-{}@{}, holding its offset and retrying in {}: {}",
+                    record.topic(), record.partition(), record.offset(), retryDelay, e.getMessage(), e);
+
+            Duration nextDelay = retryDelay.multipliedBy(2).compareTo(MAX_DEAD_LETTER_RETRY_DELAY) < 0
+                    ? retryDelay.multipliedBy(2) : MAX_DEAD_LETTER_RETRY_DELAY;
+            try {
+                deadLetterRetries.schedule(() -> deadLetterAndRelease(record, partition, offsets, cause, nextDelay),
+                        retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException shutdown) {
+                // Shutting down; the record is redelivered after the restart
+            }
+        }
+    }
+
+    /**
+     * Commit every partition of this consumer whose commit point moved
+     */
+    public void commitReady(Consumer<?, ?> consumer) {
+        commit(consumer, consumer.assignment());
+    }
+
+    @EventListener
+    public void onIdle(ListenerContainerIdleEvent event) {
+        // Published on the consumer thread, so the consumer is safe to use
+        if (event.getConsumer() != null) {
+            commitReady(event.getConsumer());
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        commit(consumer, revoked);
+        // Anything still pending is redelivered to the next owner
+        revoked.forEach(partitions::remove);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+        lost.forEach(partitions::remove);
+    }
+
+    private void commit(Consumer<?, ?> consumer, Collection<TopicPartition> assigned) {
+        Map<TopicPartition, OffsetAndMetadata> ready = new HashMap<>();
+        for (TopicPartition partition : assigned) {
+            PartitionOffsets offsets = partitions.get(partition);
+            if (offsets == null) {
+                continue;
+            }
+            long commitPoint = offsets.commitPoint();
+            if (commitPoint > offsets.committed) {
+                ready.put(partition, new OffsetAndMetadata(commitPoint));
+            }
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+
+        try {
+            consumer.commitSync(ready);
+            ready.forEach((partition, offset) -> {
+                PartitionOffsets offsets = partitions.get(partition);
+                if (offsets != null) {
+                    offsets.committed = offset.offset();
+                }
+            });
+            logger.debug("Committed offsets {}", ready);
+
+        } catch (Exception e) {
+            // Retried with the next commit
+            logger.warn("Failed to commit offsets {}: {}", ready, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        deadLetterRetries.shutdownNow();
+    }
+
+    int pending() {
+        return partitions.values().stream().mapToInt(offsets -> offsets.pending.size()).sum();
+    }
+
+    private static final class PartitionOffsets {
+        private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+        // Only touched on the consumer thread
+        private long highestTracked = -1;
+        private long committed = -1;
+
+        private long commitPoint() {
+            Long lowestPending = pending.ceiling(0L);
+            return lowestPending != null ? lowestPending : highestTracked + 1;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.conflictradar.processing.service.nlp;
+
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-size pool of CoreNLP pipelines.
+ * Callers borrow a pipeline for one annotation; at most {@code maxWaiting} callers queue for a free one.
+ * Annotator models are shared between instances through CoreNLP's annotator pool, so extra instances are cheap.
+ */
+class CoreNlpPipelinePool {
+
+    private final BlockingQueue<StanfordCoreNLP> available;
+    private final int size;
+    private final int maxWaiting;
+    private final Duration borrowTimeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    CoreNlpPipelinePool(List<StanfordCoreNLP> pipelines, int maxWaiting, Duration borrowTimeout,
+                        MeterRegistry meterRegistry) {
+        if (pipelines.isEmpty()) {
+            throw new IllegalArgumentException("Pipeline pool needs at least one pipeline");
+        }
+
+        this.size = pipelines.size();
+        this.available = new ArrayBlockingQueue<>(size, false, pipelines);
+        this.maxWaiting = maxWaiting;
+        this.borrowTimeout = borrowTimeout;
+
+        Gauge.builder("nlp.pipeline.pool.size", this, CoreNlpPipelinePool::size)
+                .description("Number of CoreNLP pipeline instances")
+                .register(meterRegistry);
+        Gauge.builder("nlp.pipeline.pool.active", this, CoreNlpPipelinePool::active)
+                .description("CoreNLP pipelines currently annotating")
+                .register(meterRegistry);
+        Gauge.builder("nlp.pipeline.pool.waiting", this, CoreNlpPipelinePool::waiting)
+                .description("Callers waiting for a free CoreNLP pipeline")
+                .register(meterRegistry);
+
+        this.waitTimer = Timer.builder("nlp.pipeline.pool.wait")
+                .description("Time spent waiting for a free CoreNLP pipeline")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("nlp.pipeline.pool.rejected")
+                .description("Annotations rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Annotate a document on a borrowed pipeline
+     */
+    void annotate(Annotation document) {
+        StanfordCoreNLP pipeline = borrow();
+        try {
+            pipeline.annotate(document);
+        } finally {
+            available.offer(pipeline);
+        }
+    }
+
+    /**
+     * Annotate many documents on one borrowed pipeline using CoreNLP's multi-threaded path.
+     * The callback runs on CoreNLP worker threads as each document completes.
+     */
+    void annotate(List<Annotation> documents, int numThreads, Consumer<Annotation> callback) {
+        StanfordCoreNLP pipeline = borrow();
+        try {
+            pipeline.annotate(documents, numThreads, callback);
+        } finally {
+            available.offer(pipeline);
+        }
+    }
+
+    private StanfordCoreNLP borrow() {
+        StanfordCoreNLP pipeline = available.poll();
+        if (pipeline != null) {
+            return pipeline;
+        }
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("NLP pipeline pool saturated (" + size + " busy, "
+                    + maxWaiting + " waiting)");
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            pipeline = available.poll(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an NLP pipeline", e);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+
+        if (pipeline == null) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("No NLP pipeline available within " + borrowTimeout);
+        }
+        return pipeline;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int active() {
+        return size - available.size();
+    }
+
+    int waiting() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,234 @@
+package io.conflictradar.processing.service.nlp;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.service.geo.GazetteerPlace;
+import io.conflictradar.processing.service.geo.GeoNamesGazetteer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fast extraction tier: tags well-known actors and places from a bundled dictionary and the offline gazetteer.
+ * Alongside the entities it reports how much of the text's capitalized vocabulary it accounted for,
+ * which NlpService uses to decide whether a full CoreNLP run is still needed.
+ */
+@Component
+public class DictionaryEntityTagger {
+
+    static final String DICTIONARY_RESOURCE = "lexicon/known-entities.json";
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+(?:[-'’.][\\p{L}\\p{N}]+)*");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Set<String> FUNCTION_WORDS = Set.of(
+            "a", "an", "the", "of", "and", "or", "in", "on", "at", "to", "for", "as", "by", "with", "from",
+            "after", "over", "amid", "into", "is", "are", "be", "says", "said"
+    );
+    private static final int MAX_PHRASE_TOKENS = 5;
+    private static final double DICTIONARY_CONFIDENCE = 0.9;
+    private static final double GAZETTEER_CONFIDENCE = 0.8;
+    private static final int MAX_GAZETTEER_FEATURE_RANK = 3;       // countries, first-order divisions, capitals
+    private static final long MIN_GAZETTEER_POPULATION = 250_000;
+    private static final int MATCHING_RULES_VERSION = 2;               // bump when matching changes, for cache keys
+
+    private final GeoNamesGazetteer gazetteer;
+    private final Map<String, ExtractedEntity.EntityType> dictionary;
+    private final Map<String, ExtractedEntity.EntityType> acronyms;
+    private final int dictionaryVersion;
+
+    public DictionaryEntityTagger(GeoNamesGazetteer gazetteer) {
+        this.gazetteer = gazetteer;
+
+        KnownEntities known = KnownEntities.loadDefault();
+        Map<String, ExtractedEntity.EntityType> entries = new HashMap<>();
+        Map<String, ExtractedEntity.EntityType> acronymEntries = new HashMap<>();
+        BiConsumer<String, ExtractedEntity.EntityType> add = (name, type) -> {
+            if (isAcronym(name)) {
+                acronymEntries.put(joinTokens(name), type);
+            } else {
+                entries.put(key(name), type);
+            }
+        };
+        known.locations().forEach(name -> add.accept(name, ExtractedEntity.EntityType.LOCATION));
+        known.organizations().forEach(name -> add.accept(name, ExtractedEntity.EntityType.ORGANIZATION));
+        known.persons().forEach(name -> add.accept(name, ExtractedEntity.EntityType.PERSON));
+        this.dictionary = Map.copyOf(entries);
+        this.acronyms = Map.copyOf(acronymEntries);
+        this.dictionaryVersion = known.version();
+    }
+
+    /**
+     * Entities found in the text and the share of capitalized, non-initial tokens they cover
+     */
+    public record Tagging(List<ExtractedEntity> entities, double coverage) {}
+
+    public Tagging tag(String text) {
+        List<Token> tokens = tokenize(text);
+        List<ExtractedEntity> entities = new ArrayList<>();
+        boolean[] covered = new boolean[tokens.size()];
+
+        int i = 0;
+        while (i < tokens.size()) {
+            int length = matchAt(text, tokens, i, entities);
+            if (length > 0) {
+                Arrays.fill(covered, i, i + length, true);
+                i += length;
+            } else {
+                i++;
+            }
+        }
+
+        int candidates = 0;
+        int hits = 0;
+        for (int t = 0; t < tokens.size(); t++) {
+            // A sentence-initial capital says nothing unless we recognised the word
+            if (!isCapitalized(tokens.get(t)) || (t == 0 && !covered[0])) {
+                continue;
+            }
+            candidates++;
+            if (covered[t]) {
+                hits++;
+            }
+        }
+
+        return new Tagging(entities, candidates == 0 ? 1.0 : (double) hits / candidates);
+    }
+
+    /**
+     * Identifies the dictionary, the gazetteer contents and matching rules, for cache keys
+     */
+    public String describe() {
+        return "dictionary=v" + dictionaryVersion + ",entries=" + (dictionary.size() + acronyms.size())
+                + ",rules=v" + MATCHING_RULES_VERSION + ",gazetteer=" + gazetteer.version();
+    }
+
+    /**
+     * Longest phrase starting at the token that names a known entity; returns its length in tokens or 0
+     */
+    private int matchAt(String text, List<Token> tokens, int start, List<ExtractedEntity> entities) {
+        int maxEnd = Math.min(tokens.size(), start + MAX_PHRASE_TOKENS);
+        for (int end = maxEnd; end > start; end--) {
+            if (!isProperPhrase(tokens, start, end)) {
+                continue;
+            }
+
+            Token first = tokens.get(start);
+            Token last = tokens.get(end - 1);
+            String surface = text.substring(first.start(), last.end());
+
+            // Acronyms match only as written: "WHO" and "US", but not "Who" or "Us"
+            ExtractedEntity.EntityType type = acronyms.get(joinTokens(surface));
+            if (type == null) {
+                type = dictionary.get(key(surface));
+            }
+            double confidence = DICTIONARY_CONFIDENCE;
+            if (type == null && isKnownPlace(surface)) {
+                type = ExtractedEntity.EntityType.LOCATION;
+                confidence = GAZETTEER_CONFIDENCE;
+            }
+
+            if (type != null) {
+                entities.add(new ExtractedEntity(surface, type, confidence, first.start(), last.end()));
+                return end - start;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Only exact gazetteer names count: the prefix fallback would make "South" or "United" a place
+     */
+    private boolean isKnownPlace(String name) {
+        Optional<GazetteerPlace> place = gazetteer.resolveExact(name);
+        return place.isPresent() && (place.get().featureRank() <= MAX_GAZETTEER_FEATURE_RANK
+                || place.get().population() >= MIN_GAZETTEER_POPULATION);
+    }
+
+    /**
+     * Capitalized at both ends, with only capitalized or function words in between ("Ministry of Defense")
+     */
+    private static boolean isProperPhrase(List<Token> tokens, int start, int end) {
+        if (!isCapitalized(tokens.get(start)) || !isCapitalized(tokens.get(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            Token token = tokens.get(i);
+            if (!isCapitalized(token) && !FUNCTION_WORDS.contains(token.text().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCapitalized(Token token) {
+        return Character.isUpperCase(token.text().charAt(0))
+                && !FUNCTION_WORDS.contains(token.text().toLowerCase(Locale.ROOT));
+    }
+
+    private static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            int end = matcher.end();
+            // Possessives: "Ukraine's" tags as "Ukraine"
+            if (end - matcher.start() > 2 && (text.startsWith("'s", end - 2) || text.startsWith("’s", end - 2))) {
+                end -= 2;
+            }
+            tokens.add(new Token(text.substring(matcher.start(), end), matcher.start(), end));
+        }
+        return tokens;
+    }
+
+    /**
+     * Lookup key: tokens joined by single spaces, lowercased, without diacritics
+     */
+    private static String key(String phrase) {
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(joinTokens(phrase), Normalizer.Form.NFD)).replaceAll("");
+        return folded.replace('’', '\'').toLowerCase(Locale.ROOT);
+    }
+
+    private static String joinTokens(String phrase) {
+        StringJoiner joined = new StringJoiner(" ");
+        for (Token token : tokenize(phrase)) {
+            joined.add(token.text());
+        }
+        return joined.toString();
+    }
+
+    /**
+     * No lowercase letters, like "UN", "U.S" or "G7"
+     */
+    private static boolean isAcronym(String name) {
+        return name.codePoints().anyMatch(Character::isUpperCase) && name.codePoints().noneMatch(Character::isLowerCase);
+    }
+
+    private record Token(String text, int start, int end) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record KnownEntities(
+            @JsonProperty("version") int version,
+            @JsonProperty("persons") List<String> persons,
+            @JsonProperty("organizations") List<String> organizations,
+            @JsonProperty("locations") List<String> locations
+    ) {
+        static KnownEntities loadDefault() {
+            try (InputStream input = DictionaryEntityTagger.class.getClassLoader().getResourceAsStream(DICTIONARY_RESOURCE)) {
+                if (input == null) {
+                    throw new IllegalStateException("Missing classpath resource " + DICTIONARY_RESOURCE);
+                }
+                return new ObjectMapper().readValue(input, KnownEntities.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + DICTIONARY_RESOURCE, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.conflictradar.processing.service.nlp;
+
+import org.apache.commons.codec.digest.MurmurHash3;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Cache keys for entity extraction: method, pipeline fingerprint and a 128-bit Murmur3 hash of the text.
+ * Any change to annotators, models or the CoreNLP version changes the fingerprint and so invalidates old entries;
+ * without a jar version the models' content stands in for it.
+ */
+@Component("entityExtractionKeyGenerator")
+public class EntityExtractionKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String text = params.length > 0 && params[0] instanceof String value ? value : "";
+        String fingerprint = target instanceof NlpService nlpService ? nlpService.getPipelineFingerprint() : "none";
+
+        return method.getName() + ":" + fingerprint + ":" + contentHash(text);
+    }
+
+    /**
+     * 128-bit hash of the exact text given to the pipeline. Nothing is normalized because entity offsets
+     * point into that text, so texts that differ in any character must not share an entry.
+     */
+    static String contentHash(String text) {
+        return toHex(MurmurHash3.hash128x64(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Fingerprint of the pipeline configuration and CoreNLP version
+     */
+    static String fingerprint(Properties pipelineProperties, String coreNlpVersion) {
+        if (coreNlpVersion == null || coreNlpVersion.isBlank()) {
+            throw new IllegalArgumentException("CoreNLP version is required for the cache fingerprint");
+        }
+
+        StringBuilder description = new StringBuilder("corenlp=").append(coreNlpVersion);
+        new TreeMap<>(pipelineProperties).forEach((key, value) ->
+                description.append(';').append(key).append('=').append(value));
+
+        return toHex(MurmurHash3.hash128x64(description.toString().getBytes(StandardCharsets.UTF_8)))
+                .substring(0, 16);
+    }
+
+    /**
+     * Version derived from the bytes of a model file, for when the CoreNLP jar carries no version
+     */
+    static String contentVersion(InputStream model) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = model.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+    }
+
+    private static String toHex(long[] hash) {
+        return String.format("%016x%016x", hash[0], hash[1]);
+    }
+}
@@ -1,13 +1,17 @@
 package io.conflictradar.processing.service.nlp;
 
+import edu.stanford.nlp.io.IOUtils;
 import edu.stanford.nlp.ling.CoreAnnotations;
 import edu.stanford.nlp.ling.CoreLabel;
 import edu.stanford.nlp.pipeline.Annotation;
 import edu.stanford.nlp.pipeline.StanfordCoreNLP;
 import edu.stanford.nlp.util.CoreMap;
+import io.conflictradar.processing.config.NlpConfig;
 import io.conflictradar.processing.config.ProcessingConfig;
 import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
 import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
@@ -15,7 +19,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,65 +32,178 @@ public class NlpService {
 
     private static final Logger logger = LoggerFactory.getLogger(NlpService.class);
 
+    /**
+     * Everything extractEntitiesFromDocument reads; the pipeline profile is derived from this
+     */
+    private static final Set<PipelineProfile.Output> CONSUMED_OUTPUTS = EnumSet.of(
+            PipelineProfile.Output.TOKENS,
+            PipelineProfile.Output.SENTENCES,
+            PipelineProfile.Output.NER_TAGS
+    );
+
+    private static final List<String> PROFILE_SAMPLE_TEXTS = List.of(
+            "Russian forces shell Kharkiv as President Zelensky meets NATO leaders in Brussels",
+            "UN Security Council holds emergency session on Gaza ceasefire talks brokered by Egypt",
+            "Sudan army and Rapid Support Forces clash in Khartoum despite truce"
+    );
+
     private final ProcessingConfig config;
-    private StanfordCoreNLP pipeline;
+    private final MeterRegistry meterRegistry;
+    private final DictionaryEntityTagger dictionaryTagger;
+    private CoreNlpPipelinePool pipelinePool;
+    private PipelineProfile pipelineProfile;
+    private String pipelineFingerprint;
     private boolean isInitialized = false;
 
-    public NlpService(ProcessingConfig config) {
+    public NlpService(ProcessingConfig config, MeterRegistry meterRegistry, DictionaryEntityTagger dictionaryTagger) {
         this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.dictionaryTagger = dictionaryTagger;
     }
 
     @PostConstruct
     public void initializePipeline() {
+        long startupMs;
         try {
             logger.info("Initializing Stanford CoreNLP pipeline...");
 
-            Properties props = new Properties();
-
-            // Basic annotators for entity extraction
-            String annotators = String.join(",", config.nlp().stanford().annotators());
-            props.setProperty("annotators", annotators);
+            // Minimal annotator chain for what we consume (or the configured profile)
+            PipelineProfile profile = PipelineProfile.resolve(config.nlp().stanford(), CONSUMED_OUTPUTS);
+            Properties props = profile.properties();
 
             // Language model
             props.setProperty("ner.language", "english");
             props.setProperty("ner.model", "edu/stanford/nlp/models/ner/english.all.3class.distsim.crf.ser.gz");
 
-            // Performance settings
-            props.setProperty("threads", "2");
+            // Performance settings - one pipeline instance per processing thread
+            int poolSize = Math.max(1, config.performance().threadPoolSize());
+            props.setProperty("threads", String.valueOf(poolSize));
             props.setProperty("timeout", String.valueOf(config.nlp().stanford().timeout() * 1000));
 
-            // Memory settings
-            props.setProperty("ner.useSUTime", "false"); // Disable time recognition for performance
-            props.setProperty("parse.model", "edu/stanford/nlp/models/lexparser/englishPCFG.ser.gz");
+            long loadStart = System.nanoTime();
+
+            List<StanfordCoreNLP> pipelines = new ArrayList<>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                pipelines.add(new StanfordCoreNLP(props));
+            }
+
+            startupMs = (System.nanoTime() - loadStart) / 1_000_000;
 
-            pipeline = new StanfordCoreNLP(props);
+            // Fast-path results are cached too, so its dictionary and thresholds are part of the fingerprint
+            Properties keyProperties = new Properties();
+            keyProperties.putAll(props);
+            NlpConfig.FastPath fastPath = config.nlp().fastPath();
+            if (isFastPathEnabled()) {
+                keyProperties.setProperty("fastPath", dictionaryTagger.describe()
+                        + ",minCoverage=" + fastPath.minCoverage() + ",minConfidence=" + fastPath.minConfidence());
+            }
+            pipelineFingerprint = EntityExtractionKeyGenerator.fingerprint(keyProperties, coreNlpVersion(props));
+
+            pipelinePool = new CoreNlpPipelinePool(
+                    pipelines,
+                    config.performance().queueCapacity(),
+                    Duration.ofSeconds(config.nlp().stanford().timeout()),
+                    meterRegistry
+            );
+            pipelineProfile = profile;
             isInitialized = true;
 
-            logger.info("Stanford CoreNLP pipeline initialized successfully with annotators: {}", annotators);
+            logger.info("Stanford CoreNLP pipeline initialized successfully with profile '{}', annotators: {} ({} instances, fingerprint {})",
+                    profile.name(), profile.annotators(), poolSize, pipelineFingerprint);
 
         } catch (Exception e) {
             logger.error("Failed to initialize Stanford CoreNLP pipeline: {}", e.getMessage(), e);
             isInitialized = false;
+            return;
+        }
+
+        // Diagnostics only: a failure here must not turn NLP off
+        try {
+            reportProfile(pipelineProfile, startupMs);
+        } catch (Exception e) {
+            logger.warn("Failed to report CoreNLP profile '{}': {}", pipelineProfile.name(), e.getMessage(), e);
         }
     }
 
+    /**
+     * Log and publish what the active profile costs: model load time and per-document latency.
+     * The heap the models retain is measured by NlpServiceBenchmark, which can afford explicit GCs.
+     */
+    private void reportProfile(PipelineProfile profile, long startupMs) {
+        // First document pays for lazy initialisation inside the annotators
+        pipelinePool.annotate(new Annotation(PROFILE_SAMPLE_TEXTS.get(0)));
+
+        long sampleStart = System.nanoTime();
+        for (String text : PROFILE_SAMPLE_TEXTS) {
+            pipelinePool.annotate(new Annotation(text));
+        }
+        double latencyMs = (System.nanoTime() - sampleStart) / 1_000_000.0 / PROFILE_SAMPLE_TEXTS.size();
+
+        Gauge.builder("nlp.pipeline.startup.seconds", () -> startupMs / 1000.0)
+                .description("Time to load the CoreNLP pipeline instances")
+                .tag("profile", profile.name())
+                .register(meterRegistry);
+        Gauge.builder("nlp.pipeline.sample.latency.seconds", () -> latencyMs / 1000.0)
+                .description("Average CoreNLP latency for a headline, measured at startup")
+                .tag("profile", profile.name())
+                .register(meterRegistry);
+
+        logger.info("CoreNLP profile '{}': startup {}ms, {}ms per headline",
+                profile.name(), startupMs, String.format("%.1f", latencyMs));
+    }
+
+    /**
+     * CoreNLP jar version, or a hash of the configured model files when the jar manifest has none
+     * (shaded or repackaged jars), so swapping models still invalidates cached results
+     */
+    private static String coreNlpVersion(Properties props) throws IOException {
+        String version = StanfordCoreNLP.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+
+        StringBuilder modelVersions = new StringBuilder("models");
+        for (String key : new TreeSet<>(props.stringPropertyNames())) {
+            if (!key.endsWith(".model")) {
+                continue;
+            }
+            for (String model : props.getProperty(key).split(",")) {
+                try (InputStream stream = IOUtils.getInputStreamFromURLOrClasspathOrFileSystem(model.trim())) {
+                    modelVersions.append(':').append(EntityExtractionKeyGenerator.contentVersion(stream));
+                }
+            }
+        }
+        return modelVersions.toString();
+    }
+
     @PreDestroy
     public void cleanup() {
-        if (pipeline != null) {
+        if (pipelinePool != null) {
             logger.info("Shutting down Stanford CoreNLP pipeline");
             // Stanford CoreNLP doesn't have explicit cleanup, but we can null the reference
-            pipeline = null;
+            pipelinePool = null;
         }
     }
 
     public boolean isReady() {
-        return isInitialized && pipeline != null;
+        return isInitialized && pipelinePool != null;
     }
 
     /**
-     * Extract named entities from text with caching
+     * Fingerprint of the loaded pipeline configuration, part of every entity cache key
      */
-    @Cacheable(cacheResolver = "conditionalCacheResolver", key = "#text != null ? #text.hashCode() : 'null'")
+    public String getPipelineFingerprint() {
+        return pipelineFingerprint;
+    }
+
+    /**
+     * Extract named entities from text with caching (only once the pipeline is ready).
+     * Tries the dictionary tier first and falls back to CoreNLP when it can't account for the text.
+     * Throws {@link RejectedExecutionException} when no pipeline is free in time, so nothing is cached.
+     * Concurrent calls for the same text share one extraction.
+     */
+    @Cacheable(cacheResolver = "conditionalCacheResolver", keyGenerator = "entityExtractionKeyGenerator",
+            condition = "#root.target.ready", sync = true)
     public EntityExtractionResult extractEntities(String text) {
         if (!isReady()) {
             logger.warn("NLP pipeline not ready, returning empty results");
@@ -92,14 +214,38 @@ public class NlpService {
             return EntityExtractionResult.empty();
         }
 
+        EntityExtractionResult fastResult = tryFastPath(text);
+        return fastResult != null ? fastResult : extractWithCoreNlp(text);
+    }
+
+    /**
+     * Extract named entities with the full CoreNLP pipeline, skipping the dictionary tier (for high-risk articles)
+     */
+    @Cacheable(cacheResolver = "conditionalCacheResolver", keyGenerator = "entityExtractionKeyGenerator",
+            condition = "#root.target.ready", sync = true)
+    public EntityExtractionResult extractEntitiesFull(String text) {
+        if (!isReady()) {
+            logger.warn("NLP pipeline not ready, returning empty results");
+            return EntityExtractionResult.empty();
+        }
+
+        if (text == null || text.trim().isEmpty()) {
+            return EntityExtractionResult.empty();
+        }
+
+        recordRoute("corenlp", "high_risk");
+        return extractWithCoreNlp(text);
+    }
+
+    private EntityExtractionResult extractWithCoreNlp(String text) {
         try {
             long startTime = System.currentTimeMillis();
 
             // Create annotation
             Annotation document = new Annotation(text);
 
-            // Run pipeline
-            pipeline.annotate(document);
+            // Run pipeline on a borrowed instance
+            pipelinePool.annotate(document);
 
             // Extract entities
             List<ExtractedEntity> entities = extractEntitiesFromDocument(document);
@@ -114,12 +260,152 @@ public class NlpService {
                     calculateConfidenceScore(entities)
             );
 
+        } catch (RejectedExecutionException e) {
+            // Pool saturated or borrow timed out: fail instead of returning (and caching) an empty result
+            throw e;
         } catch (Exception e) {
             logger.error("Failed to extract entities from text: {}", e.getMessage(), e);
             return EntityExtractionResult.empty();
         }
     }
 
+    /**
+     * Extract named entities from many texts; texts the dictionary tier can't account for
+     * go through one multi-threaded CoreNLP run. Results are returned in input order and are not cached.
+     * Throws {@link RejectedExecutionException} when the pipeline pool can't take the batch.
+     */
+    public List<EntityExtractionResult> extractEntitiesBatch(List<String> texts) {
+        return extractEntitiesBatch(texts, new BitSet());
+    }
+
+    /**
+     * Batch extraction where the positions set in {@code fullExtraction} always get CoreNLP
+     */
+    public List<EntityExtractionResult> extractEntitiesBatch(List<String> texts, BitSet fullExtraction) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+
+        List<EntityExtractionResult> emptyResults = Collections.nCopies(texts.size(), EntityExtractionResult.empty());
+
+        if (!isReady()) {
+            logger.warn("NLP pipeline not ready, returning empty results for batch of {}", texts.size());
+            return emptyResults;
+        }
+
+        // Remember each annotation's input position; blank texts keep their empty result
+        EntityExtractionResult[] fastResults = new EntityExtractionResult[texts.size()];
+        Map<Annotation, Integer> positions = new IdentityHashMap<>();
+        List<Annotation> documents = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.trim().isEmpty()) {
+                continue;
+            }
+
+            if (fullExtraction.get(i)) {
+                recordRoute("corenlp", "high_risk");
+            } else {
+                fastResults[i] = tryFastPath(text);
+            }
+
+            if (fastResults[i] == null) {
+                Annotation document = new Annotation(text);
+                positions.put(document, i);
+                documents.add(document);
+            }
+        }
+
+        if (documents.isEmpty()) {
+            return assembleBatch(fastResults, null, 0);
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+
+            AtomicReferenceArray<List<ExtractedEntity>> extracted = new AtomicReferenceArray<>(texts.size());
+            int numThreads = Math.min(documents.size(), pipelinePool.size());
+
+            pipelinePool.annotate(documents, numThreads,
+                    document -> extracted.set(positions.get(document), extractEntitiesFromDocument(document)));
+
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            logger.debug("Extracted entities from batch of {} texts ({} via CoreNLP) in {}ms using {} threads",
+                    texts.size(), documents.size(), processingTime, numThreads);
+
+            return assembleBatch(fastResults, extracted, processingTime / documents.size());
+
+        } catch (RejectedExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Failed to extract entities from batch of {} texts: {}", texts.size(), e.getMessage(), e);
+            return assembleBatch(fastResults, null, 0);
+        }
+    }
+
+    private List<EntityExtractionResult> assembleBatch(EntityExtractionResult[] fastResults,
+                                                       AtomicReferenceArray<List<ExtractedEntity>> extracted,
+                                                       long processingTimePerText) {
+        List<EntityExtractionResult> results = new ArrayList<>(fastResults.length);
+        for (int i = 0; i < fastResults.length; i++) {
+            List<ExtractedEntity> entities = extracted != null ? extracted.get(i) : null;
+            if (fastResults[i] != null) {
+                results.add(fastResults[i]);
+            } else if (entities != null) {
+                results.add(new EntityExtractionResult(
+                        entities,
+                        processingTimePerText,
+                        calculateConfidenceScore(entities)
+                ));
+            } else {
+                results.add(EntityExtractionResult.empty());
+            }
+        }
+        return results;
+    }
+
+    private boolean isFastPathEnabled() {
+        NlpConfig.FastPath fastPath = config.nlp().fastPath();
+        return fastPath != null && fastPath.enabled();
+    }
+
+    /**
+     * Dictionary tier: returns its result when it accounts for the text well enough, otherwise null
+     */
+    private EntityExtractionResult tryFastPath(String text) {
+        if (!isFastPathEnabled()) {
+            recordRoute("corenlp", "disabled");
+            return null;
+        }
+
+        long startTime = System.nanoTime();
+        NlpConfig.FastPath fastPath = config.nlp().fastPath();
+        DictionaryEntityTagger.Tagging tagging = dictionaryTagger.tag(text);
+
+        if (tagging.coverage() < fastPath.minCoverage()) {
+            recordRoute("corenlp", "low_coverage");
+            return null;
+        }
+
+        double confidence = calculateConfidenceScore(tagging.entities());
+        if (!tagging.entities().isEmpty() && confidence < fastPath.minConfidence()) {
+            recordRoute("corenlp", "low_confidence");
+            return null;
+        }
+
+        recordRoute("dictionary", "covered");
+        return new EntityExtractionResult(
+                tagging.entities(),
+                (System.nanoTime() - startTime) / 1_000_000,
+                confidence
+        );
+    }
+
+    private void recordRoute(String tier, String reason) {
+        meterRegistry.counter("nlp.extraction.route", "tier", tier, "reason", reason).increment();
+    }
+
     private List<ExtractedEntity> extractEntitiesFromDocument(Annotation document) {
         List<ExtractedEntity> entities = new ArrayList<>();
 
@@ -154,15 +440,19 @@ public class NlpService {
         return groupConsecutiveEntities(entities);
     }
 
+    /**
+     * Every profile runs coarse NER (fine-grained labels are switched off), so places are always LOCATION;
+     * whether a place is a country or a city is decided by the gazetteer during geographic resolution
+     */
     private boolean isRelevantEntityType(String ner) {
-        return Set.of("PERSON", "ORGANIZATION", "LOCATION", "COUNTRY", "CITY").contains(ner);
+        return Set.of("PERSON", "ORGANIZATION", "LOCATION").contains(ner);
     }
 
     private ExtractedEntity.EntityType mapNerToEntityType(String ner) {
         return switch (ner) {
             case "PERSON" -> ExtractedEntity.EntityType.PERSON;
             case "ORGANIZATION" -> ExtractedEntity.EntityType.ORGANIZATION;
-            case "LOCATION", "COUNTRY", "CITY" -> ExtractedEntity.EntityType.LOCATION;
+            case "LOCATION" -> ExtractedEntity.EntityType.LOCATION;
             default -> ExtractedEntity.EntityType.OTHER;
         };
     }
@@ -172,13 +462,15 @@ public class NlpService {
         return switch (ner) {
             case "PERSON" -> 0.9;
             case "ORGANIZATION" -> 0.8;
-            case "LOCATION", "COUNTRY" -> 0.85;
-            case "CITY" -> 0.8;
+            case "LOCATION" -> 0.85;
             default -> 0.7;
         };
     }
 
-    private List<ExtractedEntity> groupConsecutiveEntities(List<ExtractedEntity> entities) {
+    /**
+     * Merge adjacent tokens of the same type into one entity (package-private for the benchmarks)
+     */
+    static List<ExtractedEntity> groupConsecutiveEntities(List<ExtractedEntity> entities) {
         if (entities.isEmpty()) {
             return entities;
         }
@@ -267,6 +559,7 @@ public class NlpService {
 
         return Map.of(
                 "ready", isReady(),
+                "profile", pipelineProfile != null ? pipelineProfile.name() : "none",
                 "testText", testText,
                 "extractedEntities", result.entities().size(),
                 "processingTime", result.processingTimeMs() + "ms",
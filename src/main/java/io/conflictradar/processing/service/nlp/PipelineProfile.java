@@ -0,0 +1,129 @@
+package io.conflictradar.processing.service.nlp;
+
+import io.conflictradar.processing.config.NlpConfig;
+
+import java.util.*;
+
+/**
+ * CoreNLP configuration derived from the annotations a consumer actually reads.
+ * Annotators and models that produce nothing we consume are never configured, so they are never loaded.
+ */
+final class PipelineProfile {
+
+    /**
+     * Annotations a consumer can read from an annotated document
+     */
+    enum Output {
+        TOKENS,
+        SENTENCES,
+        POS_TAGS,
+        LEMMAS,
+        NER_TAGS,
+        PARSE_TREES
+    }
+
+    static final String ENTITIES = "entities";
+    static final String FULL = "full";
+    static final String CUSTOM = "custom";
+
+    /**
+     * Fine-grained NER (COUNTRY, CITY, STATE_OR_PROVINCE, ...) stays off in every profile: it only matches
+     * POS-tagged tokens, so the derived chain would need pos for it, and nothing downstream distinguishes
+     * kinds of places; the gazetteer does that during geographic resolution
+     */
+    private static final String APPLY_FINE_GRAINED = "false";
+
+    private static final List<String> FULL_ANNOTATORS = List.of("tokenize", "ssplit", "pos", "lemma", "ner");
+
+    private final String name;
+    private final List<String> annotators;
+    private final Properties properties;
+
+    private PipelineProfile(String name, List<String> annotators, Properties properties) {
+        this.name = name;
+        this.annotators = List.copyOf(annotators);
+        this.properties = properties;
+        this.properties.setProperty("annotators", String.join(",", annotators));
+    }
+
+    /**
+     * Profile selected by configuration: an explicit annotator list wins, otherwise the named profile
+     */
+    static PipelineProfile resolve(NlpConfig.Stanford stanford, Set<Output> consumed) {
+        if (stanford.annotators() != null && !stanford.annotators().isEmpty()) {
+            return explicit(CUSTOM, stanford.annotators());
+        }
+
+        String profile = stanford.profile() == null || stanford.profile().isBlank() ? ENTITIES : stanford.profile();
+        return switch (profile) {
+            case ENTITIES -> derive(ENTITIES, consumed);
+            case FULL -> explicit(FULL, FULL_ANNOTATORS);
+            default -> throw new IllegalArgumentException("Unknown NLP pipeline profile: " + profile);
+        };
+    }
+
+    /**
+     * Shortest annotator chain producing the outputs
+     */
+    static PipelineProfile derive(String name, Set<Output> outputs) {
+        Set<String> chain = new LinkedHashSet<>();
+        Properties properties = new Properties();
+
+        boolean needsPos = outputs.contains(Output.POS_TAGS) || outputs.contains(Output.LEMMAS)
+                || outputs.contains(Output.PARSE_TREES);
+
+        if (!outputs.isEmpty()) {
+            chain.add("tokenize");
+        }
+        if (outputs.stream().anyMatch(output -> output != Output.TOKENS)) {
+            chain.add("ssplit");
+        }
+        if (needsPos) {
+            chain.add("pos");
+        }
+        if (outputs.contains(Output.LEMMAS)) {
+            chain.add("lemma");
+        }
+        if (outputs.contains(Output.NER_TAGS)) {
+            chain.add("ner");
+            // The CRF classifiers only need tokens; switch off the sub-annotators that would need pos/lemma
+            properties.setProperty("ner.applyNumericClassifiers", "false");
+            properties.setProperty("ner.useSUTime", "false");
+            properties.setProperty("ner.applyFineGrained", APPLY_FINE_GRAINED);
+            properties.setProperty("ner.buildEntityMentions", "false");
+            if (!needsPos) {
+                properties.setProperty("enforceRequirements", "false");
+            }
+        }
+        if (outputs.contains(Output.PARSE_TREES)) {
+            chain.add("parse");
+            properties.setProperty("parse.model", "edu/stanford/nlp/models/lexparser/englishPCFG.ser.gz");
+        }
+
+        return new PipelineProfile(name, new ArrayList<>(chain), properties);
+    }
+
+    private static PipelineProfile explicit(String name, List<String> annotators) {
+        Properties properties = new Properties();
+        properties.setProperty("ner.useSUTime", "false"); // Disable time recognition for performance
+        properties.setProperty("ner.applyFineGrained", APPLY_FINE_GRAINED);
+        return new PipelineProfile(name, annotators, properties);
+    }
+
+    String name() {
+        return name;
+    }
+
+    List<String> annotators() {
+        return annotators;
+    }
+
+    /**
+     * A copy of the profile's pipeline properties, for the caller to extend
+     */
+    Properties properties() {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        return copy;
+    }
+}
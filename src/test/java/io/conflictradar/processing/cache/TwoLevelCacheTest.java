@@ -0,0 +1,151 @@
+package io.conflictradar.processing.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TwoLevelCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache remoteCache;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remoteCache = new ConcurrentMapCache("geoResolution");
+        cache = new TwoLevelCache("geoResolution", Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should promote L2 hits into L1")
+    void shouldPromoteRemoteHitsIntoLocalTier() {
+        remoteCache.put("ukraine", "Kyiv");
+
+        assertThat(cache.get("ukraine").get()).isEqualTo("Kyiv");
+        remoteCache.evict("ukraine");
+        assertThat(cache.get("ukraine").get()).isEqualTo("Kyiv");
+
+        assertThat(tierCount("l2_hit")).isEqualTo(1.0);
+        assertThat(tierCount("l1_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should write through to both tiers and load misses once")
+    void shouldWriteThroughAndLoadMissesOnce() {
+        assertThat(cache.get("gaza", () -> "Gaza City")).isEqualTo("Gaza City");
+        assertThat(cache.get("gaza", () -> "other")).isEqualTo("Gaza City");
+
+        assertThat(remoteCache.get("gaza").get()).isEqualTo("Gaza City");
+        assertThat(tierCount("miss")).isEqualTo(1.0);
+        assertThat(tierCount("l1_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should run the loader once for concurrent misses on the same key")
+    void shouldLoadConcurrentMissesOnce() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("kharkiv", () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(100);
+                        return "Kharkiv";
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Kharkiv");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(remoteCache.get("kharkiv").get()).isEqualTo("Kharkiv");
+    }
+
+    @Test
+    @DisplayName("Should not block other keys while a load is in flight")
+    void shouldNotBlockOtherKeysDuringLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slow = executor.submit(() -> cache.get("donetsk", () -> {
+                loading.countDown();
+                release.await();
+                return "Donetsk";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Any key, including ones Caffeine would hash into the same bin, loads independently
+            for (int i = 0; i < 100; i++) {
+                String key = "city-" + i;
+                assertThat(cache.get(key, () -> key)).isEqualTo(key);
+            }
+
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("Donetsk");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should wrap loader failures and not cache them")
+    void shouldNotCacheLoaderFailures() {
+        assertThatThrownBy(() -> cache.get("mariupol", () -> {
+            throw new IllegalStateException("lookup failed");
+        })).isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseMessage("lookup failed");
+
+        assertThat(cache.get("mariupol", () -> "Mariupol")).isEqualTo("Mariupol");
+    }
+
+    @Test
+    @DisplayName("Should cache null values and evict from both tiers")
+    void shouldCacheNullValuesAndEvictBothTiers() {
+        cache.put("atlantis", null);
+
+        assertThat(cache.get("atlantis")).isNotNull();
+        assertThat(cache.get("atlantis").get()).isNull();
+
+        cache.evict("atlantis");
+
+        assertThat(cache.get("atlantis")).isNull();
+        assertThat(remoteCache.get("atlantis")).isNull();
+    }
+
+    private double tierCount(String result) {
+        return meterRegistry.get("cache.tier.requests")
+                .tag("cache", "geoResolution")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,208 @@
+package io.conflictradar.processing.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExecutorConfigTest {
+
+    private final ExecutorConfig executorConfig = new ExecutorConfig();
+    private final List<ThreadPoolTaskExecutor> started = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessingConfig config;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = mock(ProcessingConfig.class);
+        when(config.performance()).thenReturn(
+                new PerformanceConfig(1, 1, Duration.ofSeconds(1), true, false, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        started.forEach(ThreadPoolTaskExecutor::shutdown);
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should make NLP submitters wait for queue space and keep the work on the pool")
+    void shouldBlockNlpSubmitterWhenSaturated() throws Exception {
+        ThreadPoolTaskExecutor nlp = start(executorConfig.nlpExecutor(config, meterRegistry));
+        saturate(nlp, 2);
+
+        CompletableFuture<Thread> ranOn = new CompletableFuture<>();
+        Thread submitter = Thread.ofVirtual().start(() -> nlp.execute(() -> ranOn.complete(Thread.currentThread())));
+
+        submitter.join(200);
+        assertThat(submitter.isAlive()).isTrue();
+        assertThat(saturated("nlp")).isEqualTo(1.0);
+
+        release.countDown();
+        submitter.join(5_000);
+
+        assertThat(submitter.isAlive()).isFalse();
+        assertThat(ranOn.get(5, TimeUnit.SECONDS).getName()).startsWith("nlp-");
+    }
+
+    @Test
+    @DisplayName("Should run Elasticsearch writes on the caller rather than drop them")
+    void shouldRunElasticsearchWritesOnCallerWhenSaturated() {
+        ThreadPoolTaskExecutor elasticsearch =
+                start((ThreadPoolTaskExecutor) executorConfig.elasticsearchExecutor(config, meterRegistry));
+        saturate(elasticsearch, 3);
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        elasticsearch.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(saturated("elasticsearch")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject geo lookups when the queue is full")
+    void shouldRejectGeoLookupsWhenSaturated() {
+        ThreadPoolTaskExecutor geo = start((ThreadPoolTaskExecutor) executorConfig.geoExecutor(config, meterRegistry));
+        saturate(geo, 3);
+
+        assertThatThrownBy(() -> geo.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(saturated("geo")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should carry the submitter's MDC onto the worker")
+    void shouldPropagateMdcToWorker() throws Exception {
+        ThreadPoolTaskExecutor nlp = start(executorConfig.nlpExecutor(config, meterRegistry));
+        MDC.put("correlationId", "article-1");
+
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        nlp.execute(() -> seen.complete(MDC.get("correlationId")));
+
+        assertThat(seen.get(5, TimeUnit.SECONDS)).isEqualTo("article-1");
+
+        MDC.clear();
+        CompletableFuture<String> afterwards = new CompletableFuture<>();
+        nlp.execute(() -> afterwards.complete(String.valueOf(MDC.get("correlationId"))));
+
+        assertThat(afterwards.get(5, TimeUnit.SECONDS)).isEqualTo("null");
+    }
+
+    @Test
+    @DisplayName("Should restore the caller's own MDC after a caller-runs task")
+    void shouldRestoreCallerMdcAfterCallerRuns() {
+        ThreadPoolTaskExecutor elasticsearch =
+                start((ThreadPoolTaskExecutor) executorConfig.elasticsearchExecutor(config, meterRegistry));
+        saturate(elasticsearch, 3);
+        MDC.put("correlationId", "consumer");
+
+        elasticsearch.execute(() -> MDC.put("correlationId", "overwritten"));
+
+        assertThat(MDC.get("correlationId")).isEqualTo("consumer");
+    }
+
+    @Test
+    @DisplayName("Should reject virtual-thread work beyond the in-flight limit without blocking the submitter")
+    void shouldRejectVirtualThreadWorkBeyondLimit() throws Exception {
+        SimpleAsyncTaskExecutor geo = ExecutorConfig.virtualThreadExecutor("geo", 1, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        geo.execute(() -> {
+            running.countDown();
+            awaitRelease();
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> geo.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(saturated("geo")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("processing.executor.active").tag("executor", "geo").gauge().value())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        awaitSlot(geo, () -> virtual.complete(Thread.currentThread().isVirtual()));
+
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should carry MDC onto virtual threads and export no pool size")
+    void shouldPropagateMdcToVirtualThreads() throws Exception {
+        SimpleAsyncTaskExecutor elasticsearch = ExecutorConfig.virtualThreadExecutor("elasticsearch", 4, meterRegistry);
+        MDC.put("correlationId", "article-2");
+
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        elasticsearch.execute(() -> seen.complete(MDC.get("correlationId")));
+
+        assertThat(seen.get(5, TimeUnit.SECONDS)).isEqualTo("article-2");
+        assertThat(meterRegistry.find("processing.executor.pool.size").tag("executor", "elasticsearch").gauge())
+                .isNull();
+    }
+
+    private ThreadPoolTaskExecutor start(ThreadPoolTaskExecutor executor) {
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        started.add(executor);
+        return executor;
+    }
+
+    /**
+     * Occupy every worker and queue slot (threads plus queue capacity) with tasks that block until the test ends.
+     * Each submission below the core size starts its own worker, so the count is exact.
+     */
+    private void saturate(ThreadPoolTaskExecutor executor, int slots) {
+        for (int i = 0; i < slots; i++) {
+            executor.execute(this::awaitRelease);
+        }
+    }
+
+    /**
+     * Submit once the finishing task has handed its slot back
+     */
+    private void awaitSlot(SimpleAsyncTaskExecutor executor, Runnable task) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double saturated(String executor) {
+        return meterRegistry.get("processing.executor.saturated").tag("executor", executor).counter().count();
+    }
+}
@@ -0,0 +1,51 @@
+package io.conflictradar.processing.dto.nlp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity.EntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EntityExtractionResultTest {
+
+    private static final ExtractedEntity KYIV = new ExtractedEntity("Kyiv", EntityType.LOCATION, 0.85, 0, 4);
+    private static final ExtractedEntity NATO = new ExtractedEntity("NATO", EntityType.ORGANIZATION, 0.8, 10, 14);
+    private static final ExtractedEntity PARIS = new ExtractedEntity("Paris", EntityType.LOCATION, 0.85, 20, 25);
+    private static final ExtractedEntity PRESIDENT = new ExtractedEntity("President Biden", EntityType.PERSON, 0.9, 30, 45);
+    private static final ExtractedEntity UKRAINE = new ExtractedEntity("Ukraine", EntityType.LOCATION, 0.85, 50, 57);
+
+    @Test
+    @DisplayName("Should partition entities by type and order conflict entities by priority")
+    void shouldPrecomputePartitions() {
+        EntityExtractionResult result = new EntityExtractionResult(List.of(KYIV, NATO, PARIS, PRESIDENT, UKRAINE), 12, 0.8);
+
+        assertThat(result.getLocations()).containsExactly(KYIV, PARIS, UKRAINE);
+        assertThat(result.getOrganizations()).containsExactly(NATO);
+        assertThat(result.getPersons()).containsExactly(PRESIDENT);
+        assertThat(result.getConflictRelevantEntities()).containsExactly(PRESIDENT, NATO, UKRAINE);
+        assertThat(result.hasHighPriorityConflictEntities()).isTrue();
+        assertThat(result.getEntitiesByType()).containsOnlyKeys(EntityType.LOCATION, EntityType.ORGANIZATION, EntityType.PERSON);
+
+        // 3 of 5 relevant, priorities (3 + 2 + 1) / 5 * 0.1
+        assertThat(result.getConflictRelevanceScore()).isCloseTo(0.6 + 0.12, within(1e-9));
+        assertThat(result.getSummary().conflictRelevant()).isEqualTo(3);
+        assertThat(result.getSummary().locations()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should survive a JSON round trip with value equality")
+    void shouldRoundTripThroughJackson() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        EntityExtractionResult result = new EntityExtractionResult(List.of(KYIV, NATO), 7, 0.75);
+
+        String json = objectMapper.writeValueAsString(result);
+        EntityExtractionResult restored = objectMapper.readValue(json, EntityExtractionResult.class);
+
+        assertThat(json).contains("\"entities\"", "\"processingTimeMs\"", "\"conflictRelevanceScore\"");
+        assertThat(restored).isEqualTo(result);
+        assertThat(restored.getConflictRelevantEntities()).containsExactly(NATO);
+    }
+}
@@ -0,0 +1,83 @@
+package io.conflictradar.processing.lexicon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConflictLexiconWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ConflictMatcher bundled;
+    private ConflictLexiconWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        bundled = ConflictLexicons.matcher();
+        watcher = new ConflictLexiconWatcher();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        watcher.stop();
+        ConflictLexicons.install(bundled);
+    }
+
+    @Test
+    @DisplayName("Should load the lexicon file and swap in a new matcher when it is replaced")
+    void shouldReloadWhenFileChanges() throws Exception {
+        Path file = tempDir.resolve("conflict-lexicon.json");
+        Files.writeString(file, lexicon(2, "atlantis"));
+        start(file, true);
+
+        assertThat(ConflictLexicons.matcher().version()).isEqualTo(2);
+        assertThat(ConflictLexicons.matcher().isConflictLocation("Atlantis")).isTrue();
+
+        Path staged = tempDir.resolve("staged.json");
+        Files.writeString(staged, lexicon(3, "lemuria"));
+        Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (ConflictLexicons.matcher().version() != 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(ConflictLexicons.matcher().version()).isEqualTo(3);
+        assertThat(ConflictLexicons.matcher().isConflictLocation("Lemuria")).isTrue();
+        assertThat(ConflictLexicons.matcher().isConflictLocation("Atlantis")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the current matcher when the file is invalid")
+    void shouldKeepMatcherOnInvalidFile() throws Exception {
+        Path file = tempDir.resolve("conflict-lexicon.json");
+        Files.writeString(file, "{ not json");
+
+        start(file, false);
+
+        assertThat(ConflictLexicons.matcher()).isSameAs(bundled);
+    }
+
+    private void start(Path file, boolean watch) {
+        ReflectionTestUtils.setField(watcher, "lexiconFile", file.toString());
+        ReflectionTestUtils.setField(watcher, "watch", watch);
+        watcher.start();
+    }
+
+    private static String lexicon(int version, String zone) {
+        return """
+                {"version": %d, "conflictZones": ["%s"], "conflictCities": [], "organizationMarkers": ["army"],
+                 "roleTitles": ["president"], "criticalKeywords": ["nuclear"]}
+                """.formatted(version, zone);
+    }
+}
@@ -0,0 +1,56 @@
+package io.conflictradar.processing.lexicon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConflictMatcherTest {
+
+    private final ConflictMatcher matcher = ConflictMatcher.compile(new ConflictLexicon(
+            7,
+            List.of("ukraine", "south china sea"),
+            List.of("kharkiv"),
+            List.of("army", "nato"),
+            List.of("president", "minister"),
+            List.of("Nuclear")
+    ));
+
+    @Test
+    @DisplayName("Should report every category occurring anywhere in the text")
+    void shouldClassifyAllCategoriesInOnePass() {
+        assertThat(matcher.classify("Prime MINISTER visits Kharkiv, Ukraine"))
+                .isEqualTo(ConflictMatcher.ROLE_TITLE | ConflictMatcher.CITY | ConflictMatcher.ZONE);
+        assertThat(matcher.classify("Disputes in the South China Sea")).isEqualTo(ConflictMatcher.ZONE);
+        assertThat(matcher.classify("Paris")).isZero();
+        assertThat(matcher.classify(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep substring semantics of the previous contains checks")
+    void shouldMatchSubstrings() {
+        assertThat(matcher.classify("Ukrainian Army")).isEqualTo(ConflictMatcher.ORGANIZATION_MARKER);
+        assertThat(matcher.isConflictLocation("Western Ukraine")).isTrue();
+        assertThat(matcher.isConflictLocation("Kharkiv Oblast")).isTrue();
+        assertThat(matcher.isConflictLocation("Brussels")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match critical keywords exactly and expose the lexicon version")
+    void shouldMatchCriticalKeywordsExactly() {
+        assertThat(matcher.isCriticalKeyword("NUCLEAR")).isTrue();
+        assertThat(matcher.isCriticalKeyword("nuclear plant")).isFalse();
+        assertThat(matcher.version()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should load the bundled lexicon as the default matcher")
+    void shouldLoadBundledLexicon() {
+        ConflictMatcher bundled = ConflictLexicons.matcher();
+
+        assertThat(bundled.isConflictLocation("Gaza City")).isTrue();
+        assertThat(bundled.isCriticalKeyword("genocide")).isTrue();
+    }
+}
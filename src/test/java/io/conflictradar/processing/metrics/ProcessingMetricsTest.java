@@ -0,0 +1,59 @@
+package io.conflictradar.processing.metrics;
+
+import io.conflictradar.processing.metrics.ProcessingMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProcessingMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessingMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ProcessingMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should record stage latency and errors under the stage tag")
+    void shouldRecordStageTimersAndErrors() {
+        String result = metrics.time(Stage.EXTRACT_ENTITIES, () -> "done");
+        metrics.record(Stage.EXTRACT_ENTITIES, 40);
+        metrics.stageFailed(Stage.RESOLVE_GEOGRAPHY);
+
+        assertThat(result).isEqualTo("done");
+        assertThat(meterRegistry.get("processing.stage.duration").tag("stage", "extractEntities").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("processing.stage.errors").tag("stage", "resolveGeography").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should summarize throughput and error rate from the live meters")
+    @SuppressWarnings("unchecked")
+    void shouldSummarizeSnapshot() {
+        metrics.articleProcessed(120, 4, 2);
+        metrics.articleProcessed(80, 1, 0);
+        metrics.articleFailed();
+        metrics.articleFailed();
+
+        Map<String, Object> snapshot = metrics.snapshot();
+
+        assertThat(snapshot)
+                .containsEntry("articlesProcessed", 2L)
+                .containsEntry("articlesFailed", 2L)
+                .containsEntry("entitiesExtracted", 5L)
+                .containsEntry("locationsResolved", 2L)
+                .containsEntry("averageProcessingTime", "100ms")
+                .containsEntry("errorRate", String.format("%.1f%%", 50.0));
+        assertThat((Map<String, Object>) snapshot.get("stages")).containsKeys(
+                "extractEntities", "analyzeSentiment", "resolveGeography", "indexToElasticsearch", "publishEnhancedEvents");
+    }
+}
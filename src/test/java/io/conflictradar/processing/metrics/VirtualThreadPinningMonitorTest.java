@@ -0,0 +1,74 @@
+package io.conflictradar.processing.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Should time virtual threads that block while pinned, and only those")
+    void shouldTimePinnedVirtualThreads() throws Exception {
+        monitor.start();
+
+        // Parks without holding a monitor: the carrier is released, nothing to report
+        Thread.ofVirtual().start(() -> sleep(50)).join();
+        // Parks inside synchronized: the virtual thread stays on its carrier
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        Timer pinned = meterRegistry.get("processing.virtual_threads.pinned").timer();
+        // JFR hands events to the stream in periodic flushes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pinned.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(pinned.count()).isEqualTo(1);
+        assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should stop cleanly whether or not the stream started")
+    void shouldStopCleanly() {
+        assertThatCode(monitor::stop).doesNotThrowAnyException();
+
+        monitor.start();
+
+        assertThatCode(monitor::stop).doesNotThrowAnyException();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,22 +1,44 @@
 package io.conflictradar.processing.service;
 
+import io.conflictradar.processing.config.PerformanceConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
 import io.conflictradar.processing.dto.input.NewsIngestedEvent;
 import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.metrics.ProcessingMetrics;
 import io.conflictradar.processing.service.elasticsearch.ElasticsearchIndexingService;
 import io.conflictradar.processing.service.events.ProcessingEventPublisher;
 import io.conflictradar.processing.service.geo.GeoNamesService;
+import io.conflictradar.processing.service.geo.GeoNamesService.GeographicResolutionResult;
+import io.conflictradar.processing.service.kafka.OffsetCommitCoordinator;
 import io.conflictradar.processing.service.nlp.NlpService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,21 +56,33 @@ class ArticleProcessingServiceTest {
     @Mock
     private GeoNamesService geoNamesService;
     @Mock
+    private OffsetCommitCoordinator offsetCoordinator;
+    @Mock
+    private Consumer<String, NewsIngestedEvent> consumer;
+    @Mock
     private Acknowledgment acknowledgment;
+    @Captor
+    private ArgumentCaptor<CompletableFuture<?>> trackedFuture;
 
     private ArticleProcessingService processingService;
 
     @BeforeEach
     void setUp() {
+        ProcessingConfig config = new ProcessingConfig(null, null, null,
+                new PerformanceConfig(4, 100, Duration.ofMillis(200), true, false, 0));
         processingService = new ArticleProcessingService(
-                nlpService, elasticsearchService, eventPublisher, geoNamesService
+                config, nlpService, elasticsearchService, eventPublisher, geoNamesService,
+                new ProcessingMetrics(new SimpleMeterRegistry()),
+                offsetCoordinator,
+                Runnable::run
         );
     }
 
     @Test
-    @DisplayName("Should process article successfully and acknowledge")
-    void shouldProcessArticleSuccessfullyAndAcknowledge() {
+    @DisplayName("Should process article successfully and track its offset until indexed")
+    void shouldProcessArticleSuccessfullyAndTrackOffset() {
         NewsIngestedEvent event = createEvent();
+        ConsumerRecord<String, NewsIngestedEvent> record = createRecord(event);
         EntityExtractionResult entityResult = EntityExtractionResult.empty();
 
         when(nlpService.extractEntities(anyString())).thenReturn(entityResult);
@@ -58,50 +92,74 @@ class ArticleProcessingServiceTest {
                 .thenReturn(CompletableFuture.completedFuture(null));
 
         assertThatCode(() -> {
-            processingService.processNewsArticle(event, "topic", 0, 123L, acknowledgment);
+            processingService.processNewsArticle(record, consumer);
         }).doesNotThrowAnyException();
 
         verify(nlpService).extractEntities(event.title());
         verify(elasticsearchService).indexArticle(event, entityResult);
         verify(eventPublisher).publishAllEvents(any(), any(), anyDouble(), any(), any(), any(), anyDouble(), any());
-        verify(acknowledgment).acknowledge();
+        verify(offsetCoordinator).commitReady(consumer);
+        verify(offsetCoordinator).track(eq(record), trackedFuture.capture());
+        assertThat(trackedFuture.getValue()).isCompleted();
     }
 
     @Test
-    @DisplayName("Should handle NLP service exception and still acknowledge")
-    void shouldHandleNlpServiceExceptionAndStillAcknowledge() {
+    @DisplayName("Should handle NLP service exception and still track the offset")
+    void shouldHandleNlpServiceExceptionAndStillTrackOffset() {
         NewsIngestedEvent event = createEvent();
+        ConsumerRecord<String, NewsIngestedEvent> record = createRecord(event);
 
         when(nlpService.extractEntities(anyString())).thenThrow(new RuntimeException("NLP failed"));
 
         assertThatCode(() -> {
-            processingService.processNewsArticle(event, "topic", 0, 123L, acknowledgment);
+            processingService.processNewsArticle(record, consumer);
         }).doesNotThrowAnyException();
 
-        verify(acknowledgment).acknowledge();
+        verify(offsetCoordinator).track(eq(record), any());
+    }
+
+    @Test
+    @DisplayName("Should hand a saturated NLP pipeline pool to the retry topic instead of indexing empty entities")
+    void shouldRethrowNlpPoolRejection() {
+        NewsIngestedEvent event = createEvent();
+        ConsumerRecord<String, NewsIngestedEvent> record = createRecord(event);
+
+        when(nlpService.extractEntities(anyString())).thenThrow(new RejectedExecutionException("pool saturated"));
+
+        assertThatThrownBy(() -> processingService.processNewsArticle(record, consumer))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        verify(elasticsearchService, never()).indexArticle(any(), any());
+        verify(offsetCoordinator, never()).track(any(), any());
     }
 
     @Test
-    @DisplayName("Should handle elasticsearch service exception and still acknowledge")
-    void shouldHandleElasticsearchServiceExceptionAndStillAcknowledge() {
+    @DisplayName("Should hand an Elasticsearch failure to the offset coordinator for dead-lettering")
+    void shouldHandElasticsearchFailureToOffsetCoordinator() {
         NewsIngestedEvent event = createEvent();
+        ConsumerRecord<String, NewsIngestedEvent> record = createRecord(event);
         EntityExtractionResult entityResult = EntityExtractionResult.empty();
 
         when(nlpService.extractEntities(anyString())).thenReturn(entityResult);
         when(elasticsearchService.indexArticle(any(), any()))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("ES failed")));
+        when(eventPublisher.publishAllEvents(any(), any(), anyDouble(), any(), any(), any(), anyDouble(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
-        assertThatCode(() -> {
-            processingService.processNewsArticle(event, "topic", 0, 123L, acknowledgment);
-        }).doesNotThrowAnyException();
+        assertThatCode(
+                () -> processingService.processNewsArticle(record, consumer)
+        ).doesNotThrowAnyException();
 
-        verify(acknowledgment).acknowledge();
+        verify(offsetCoordinator).track(eq(record), trackedFuture.capture());
+        assertThat(trackedFuture.getValue()).isCompletedExceptionally();
+        assertThatThrownBy(() -> trackedFuture.getValue().join()).hasRootCauseMessage("ES failed");
     }
 
     @Test
-    @DisplayName("Should handle event publisher exception and still acknowledge")
-    void shouldHandleEventPublisherExceptionAndStillAcknowledge() {
+    @DisplayName("Should handle event publisher exception and still track the offset")
+    void shouldHandleEventPublisherExceptionAndStillTrackOffset() {
         NewsIngestedEvent event = createEvent();
+        ConsumerRecord<String, NewsIngestedEvent> record = createRecord(event);
         EntityExtractionResult entityResult = EntityExtractionResult.empty();
 
         when(nlpService.extractEntities(anyString())).thenReturn(entityResult);
@@ -111,10 +169,178 @@ class ArticleProcessingServiceTest {
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Publisher failed")));
 
         assertThatCode(
-                () -> processingService.processNewsArticle(event, "topic", 0, 123L, acknowledgment)
+                () -> processingService.processNewsArticle(record, consumer)
+        ).doesNotThrowAnyException();
+
+        verify(offsetCoordinator).track(eq(record), any());
+    }
+
+    @Test
+    @DisplayName("Should index without waiting for geography and give up at the article deadline")
+    void shouldIndexWithoutWaitingForGeographyAndRespectDeadline() {
+        NewsIngestedEvent event = createEvent();
+        EntityExtractionResult entityResult = new EntityExtractionResult(List.of(
+                new ExtractedEntity("Kyiv", ExtractedEntity.EntityType.LOCATION, 0.9, 0, 4)
+        ), 5, 0.9);
+
+        when(nlpService.extractEntities(anyString())).thenReturn(entityResult);
+        when(geoNamesService.resolveLocationsAsync(any())).thenReturn(new CompletableFuture<>());
+        when(elasticsearchService.indexArticle(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThatThrownBy(
+                () -> processingService.processNewsArticle(createRecord(event), consumer)
+        ).hasRootCauseInstanceOf(TimeoutException.class);
+
+        verify(elasticsearchService).indexArticle(event, entityResult);
+        verify(eventPublisher, never()).publishAllEvents(any(), any(), anyDouble(), any(), any(), any(), anyDouble(), any());
+        verify(offsetCoordinator, never()).track(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should stop the remaining stages at the deadline and not index the article again on retry")
+    void shouldCancelStagesAndNotReindexAfterTimeout() {
+        NewsIngestedEvent event = createEvent();
+        EntityExtractionResult entityResult = new EntityExtractionResult(List.of(
+                new ExtractedEntity("Kyiv", ExtractedEntity.EntityType.LOCATION, 0.9, 0, 4)
+        ), 5, 0.9);
+        CompletableFuture<GeographicResolutionResult> geoLookup = new CompletableFuture<>();
+
+        when(nlpService.extractEntities(anyString())).thenReturn(entityResult);
+        when(geoNamesService.resolveLocationsAsync(any())).thenReturn(geoLookup);
+        when(elasticsearchService.indexArticle(any(), any())).thenReturn(new CompletableFuture<>());
+
+        assertThatThrownBy(() -> processingService.processNewsArticle(createRecord(event), consumer))
+                .hasRootCauseInstanceOf(TimeoutException.class);
+        assertThat(geoLookup).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(CancellationException.class);
+
+        // The retry topic redelivers the article while its first indexing is still in flight
+        assertThatThrownBy(() -> processingService.processNewsArticle(createRecord(event), consumer))
+                .hasRootCauseInstanceOf(TimeoutException.class);
+
+        verify(elasticsearchService, times(1)).indexArticle(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should process whole batch and track every offset")
+    void shouldProcessWholeBatchAndTrackEveryOffset() {
+        NewsIngestedEvent first = createEvent();
+        NewsIngestedEvent second = new NewsIngestedEvent(
+                "test-456", "Another article", "https://test.com/2", "Source",
+                LocalDateTime.now(), 0.3, Set.of(), LocalDateTime.now()
+        );
+        EntityExtractionResult entityResult = EntityExtractionResult.empty();
+
+        when(nlpService.extractEntitiesBatch(eq(List.of(first.title(), second.title())), any(BitSet.class)))
+                .thenReturn(List.of(entityResult, entityResult));
+        when(elasticsearchService.indexArticle(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(eventPublisher.publishAllEvents(any(), any(), anyDouble(), any(), any(), any(), anyDouble(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        List<ConsumerRecord<String, NewsIngestedEvent>> records = List.of(
+                new ConsumerRecord<>("topic", 0, 123L, first.articleId(), first),
+                new ConsumerRecord<>("topic", 0, 124L, second.articleId(), second),
+                new ConsumerRecord<>("topic", 0, 125L, "deleted", null)
+        );
+
+        assertThatCode(
+                () -> processingService.processNewsArticleBatch(records, consumer)
         ).doesNotThrowAnyException();
 
+        verify(nlpService).extractEntitiesBatch(eq(List.of(first.title(), second.title())), any(BitSet.class));
+        verify(nlpService, never()).extractEntities(anyString());
+        verify(elasticsearchService, times(2)).indexArticle(any(), any());
+        verify(offsetCoordinator).commitReady(consumer);
+        verify(offsetCoordinator, times(3)).track(any(), trackedFuture.capture());
+        assertThat(trackedFuture.getAllValues()).allSatisfy(future -> assertThat(future).isCompleted());
+    }
+
+    @Test
+    @DisplayName("Should run batch entity extraction on the NLP executor, not the listener thread")
+    void shouldRunBatchExtractionOnNlpExecutor() {
+        ExecutorService nlpExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "nlp-test"));
+        processingService = new ArticleProcessingService(
+                new ProcessingConfig(null, null, null, new PerformanceConfig(4, 100, Duration.ofMillis(200), true, false, 0)),
+                nlpService, elasticsearchService, eventPublisher, geoNamesService,
+                new ProcessingMetrics(new SimpleMeterRegistry()), offsetCoordinator, nlpExecutor
+        );
+        NewsIngestedEvent event = createEvent();
+        AtomicReference<String> extractedOn = new AtomicReference<>();
+
+        when(nlpService.extractEntitiesBatch(anyList(), any(BitSet.class))).thenAnswer(invocation -> {
+            extractedOn.set(Thread.currentThread().getName());
+            return List.of(EntityExtractionResult.empty());
+        });
+        when(elasticsearchService.indexArticle(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(eventPublisher.publishAllEvents(any(), any(), anyDouble(), any(), any(), any(), anyDouble(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        try {
+            processingService.processNewsArticleBatch(
+                    List.of(new ConsumerRecord<>("topic", 0, 123L, event.articleId(), event)), consumer);
+        } finally {
+            nlpExecutor.shutdownNow();
+        }
+
+        assertThat(extractedOn.get()).isEqualTo("nlp-test");
+        verify(offsetCoordinator).track(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should hand a failed article of a batch to the offset coordinator")
+    void shouldHandFailedArticleOfBatchToOffsetCoordinator() {
+        NewsIngestedEvent first = createEvent();
+        NewsIngestedEvent second = new NewsIngestedEvent(
+                "test-456", "Another article", "https://test.com/2", "Source",
+                LocalDateTime.now(), 0.3, Set.of(), LocalDateTime.now()
+        );
+        EntityExtractionResult entityResult = EntityExtractionResult.empty();
+
+        when(nlpService.extractEntitiesBatch(anyList(), any(BitSet.class)))
+                .thenReturn(List.of(entityResult, entityResult));
+        when(elasticsearchService.indexArticle(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("ES failed")));
+        when(eventPublisher.publishAllEvents(any(), any(), anyDouble(), any(), any(), any(), anyDouble(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        ConsumerRecord<String, NewsIngestedEvent> succeeded = new ConsumerRecord<>("topic", 0, 123L, first.articleId(), first);
+        ConsumerRecord<String, NewsIngestedEvent> failed = new ConsumerRecord<>("topic", 0, 124L, second.articleId(), second);
+
+        assertThatCode(() -> processingService.processNewsArticleBatch(List.of(succeeded, failed), consumer))
+                .doesNotThrowAnyException();
+
+        verify(offsetCoordinator).track(eq(succeeded), trackedFuture.capture());
+        assertThat(trackedFuture.getValue()).isCompleted();
+        verify(offsetCoordinator).track(eq(failed), trackedFuture.capture());
+        assertThat(trackedFuture.getValue()).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("Should acknowledge and count dead-lettered articles")
+    void shouldAcknowledgeDeadLetteredArticles() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        processingService = new ArticleProcessingService(
+                null, nlpService, elasticsearchService, eventPublisher, geoNamesService,
+                new ProcessingMetrics(meterRegistry), offsetCoordinator, Runnable::run
+        );
+        NewsIngestedEvent event = createEvent();
+        ConsumerRecord<String, NewsIngestedEvent> record =
+                new ConsumerRecord<>("news-ingested-dlt", 0, 7L, event.articleId(), event);
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "ES failed".getBytes(StandardCharsets.UTF_8));
+
+        processingService.processDeadLetter(record, acknowledgment);
+
         verify(acknowledgment).acknowledge();
+        assertThat(meterRegistry.get("processing.articles").tag("outcome", "dead_lettered").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private ConsumerRecord<String, NewsIngestedEvent> createRecord(NewsIngestedEvent event) {
+        return new ConsumerRecord<>("topic", 0, 123L, event.articleId(), event);
     }
 
     private NewsIngestedEvent createEvent() {
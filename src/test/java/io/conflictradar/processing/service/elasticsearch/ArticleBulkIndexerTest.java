@@ -0,0 +1,179 @@
+package io.conflictradar.processing.service.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import io.conflictradar.processing.config.ElasticsearchConfig;
+import io.conflictradar.processing.document.ProcessedArticleDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ArticleBulkIndexerTest {
+
+    private ElasticsearchAsyncClient client;
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<String>> requests;
+    private ArticleBulkIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ElasticsearchAsyncClient.class);
+        when(client._jsonpMapper()).thenReturn(new JacksonJsonpMapper(ArticleBulkIndexer.documentMapper()));
+        meterRegistry = new SimpleMeterRegistry();
+        requests = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (indexer != null) {
+            indexer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send a bulk request once the batch size is reached")
+    void shouldFlushOnBatchSize() throws Exception {
+        indexer = createIndexer(2, Duration.ofMinutes(1), id -> null);
+
+        CompletableFuture<Void> first = indexer.index(document("a1"));
+        assertThat(first).isNotDone();
+        assertThat(indexer.pending()).isEqualTo(1);
+
+        CompletableFuture<Void> second = indexer.index(document("a2"));
+
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertThat(requests).containsExactly(List.of("a1", "a2"));
+        assertThat(indexer.pending()).isZero();
+        assertThat(meterRegistry.get("elasticsearch.bulk.items").tag("outcome", "indexed").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should send a partial batch once the flush interval passes")
+    void shouldFlushOnInterval() throws Exception {
+        indexer = createIndexer(100, Duration.ofMillis(50), id -> null);
+
+        CompletableFuture<Void> future = indexer.index(document("a1"));
+
+        future.get(5, TimeUnit.SECONDS);
+        assertThat(requests).containsExactly(List.of("a1"));
+        assertThat(indexer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail the document without writing when its index can't be created")
+    void shouldFailWhenIndexCannotBeCreated() {
+        ElasticsearchConfig.Indexing indexing = new ElasticsearchConfig.Indexing(
+                1, DataSize.ofMegabytes(5), Duration.ofMinutes(1), 1, 1, 2, Duration.ofMillis(10), false);
+        indexer = new ArticleBulkIndexer(client, () -> {
+            throw new IllegalStateException("Article index articles-2025-08 could not be created");
+        }, Runnable::run, indexing, meterRegistry);
+
+        // The pending limit is one, so a leaked permit would block the second call
+        assertThat(indexer.index(document("a1"))).isCompletedExceptionally();
+        assertThat(indexer.index(document("a2"))).isCompletedExceptionally();
+        assertThat(indexer.pending()).isZero();
+        verify(client, never()).bulk(any(BulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should retry only the items rejected with a retryable status")
+    void shouldRetryRejectedItems() throws Exception {
+        Map<String, Integer> statuses = new ConcurrentHashMap<>(Map.of("a2", 429));
+        indexer = createIndexer(2, Duration.ofMillis(50), id -> statuses.remove(id));
+
+        CompletableFuture<Void> first = indexer.index(document("a1"));
+        CompletableFuture<Void> second = indexer.index(document("a2"));
+
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertThat(requests).containsExactly(List.of("a1", "a2"), List.of("a2"));
+        assertThat(meterRegistry.get("elasticsearch.bulk.items").tag("outcome", "retried").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fail a document rejected with a non-retryable status without retrying")
+    void shouldFailPermanentItemErrors() {
+        indexer = createIndexer(1, Duration.ofMinutes(1), id -> 400);
+
+        CompletableFuture<Void> future = indexer.index(document("a1"));
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasMessageContaining("mapper_parsing_exception");
+        assertThat(requests).hasSize(1);
+        assertThat(meterRegistry.get("elasticsearch.bulk.items").tag("outcome", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should serialize dates in the index date format and leave out null fields")
+    void shouldSerializeDocumentsForTheIndexMapping() throws Exception {
+        ProcessedArticleDocument document = ProcessedArticleDocument.create("a1", "Title", "", null, "Reuters",
+                LocalDateTime.of(2025, 8, 14, 9, 30, 15, 123_000_000), 0.5, Set.of(), List.of(), 0.5, 0.0);
+
+        String json = ArticleBulkIndexer.documentMapper().writeValueAsString(document);
+
+        assertThat(json).contains("\"publishedAt\":\"2025-08-14T09:30:15\"");
+        assertThat(json).doesNotContain("\"link\"");
+    }
+
+    /**
+     * @param itemStatus failure status for a document id, or null when it is accepted
+     */
+    private ArticleBulkIndexer createIndexer(int batchSize, Duration flushInterval, Function<String, Integer> itemStatus) {
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            BulkRequest request = invocation.getArgument(0);
+            List<String> ids = request.operations().stream().map(operation -> operation.index().id()).toList();
+            requests.add(ids);
+
+            List<BulkResponseItem> items = ids.stream().map(id -> {
+                Integer status = itemStatus.apply(id);
+                return BulkResponseItem.of(item -> {
+                    item.operationType(OperationType.Index).index("articles-2025-08").id(id);
+                    if (status == null) {
+                        return item.status(201);
+                    }
+                    return item.status(status).error(error -> error
+                            .type(status == 429 ? "es_rejected_execution_exception" : "mapper_parsing_exception")
+                            .reason("rejected"));
+                });
+            }).toList();
+            return CompletableFuture.completedFuture(BulkResponse.of(response -> response
+                    .errors(items.stream().anyMatch(item -> item.error() != null))
+                    .took(1)
+                    .items(items)));
+        });
+
+        ElasticsearchConfig.Indexing indexing = new ElasticsearchConfig.Indexing(
+                batchSize, DataSize.ofMegabytes(5), flushInterval, 1, 10, 2, Duration.ofMillis(10), false);
+        return new ArticleBulkIndexer(client, () -> "articles-2025-08", Runnable::run, indexing, meterRegistry);
+    }
+
+    private ProcessedArticleDocument document(String id) {
+        return ProcessedArticleDocument.create(id, "Title " + id, "", "https://example.com/" + id, "Reuters",
+                LocalDateTime.now(), 0.5, Set.of(), List.of(), 0.5, 0.0);
+    }
+}
@@ -0,0 +1,356 @@
+package io.conflictradar.processing.service.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.conflictradar.processing.config.ElasticsearchConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
+import io.conflictradar.processing.document.ProcessedArticleDocument;
+import io.conflictradar.processing.dto.input.NewsIngestedEvent;
+import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
+import io.conflictradar.processing.service.elasticsearch.ElasticsearchIndexingService.ArticleSearchResult;
+import io.conflictradar.processing.service.elasticsearch.ElasticsearchIndexingService.IndexingStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexInformation;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticsearchIndexingServiceTest {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+    @Mock
+    private IndexOperations indexOps;
+
+    private ElasticsearchIndexingService indexingService;
+
+    @BeforeEach
+    void setUp() {
+        ElasticsearchConfig.Indexing indexing = new ElasticsearchConfig.Indexing(
+                100, DataSize.ofMegabytes(5), Duration.ofMinutes(1), 1, 10, 2, Duration.ofMillis(10), false);
+        ProcessingConfig config = new ProcessingConfig(null, null,
+                new ElasticsearchConfig("conflictradar", null, indexing, Duration.ofSeconds(5)), null);
+        indexingService = new ElasticsearchIndexingService(config, Runnable::run, mock(RestClient.class),
+                elasticsearchOperations, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should create a missing monthly index under its exact name with the document's settings and mapping")
+    void shouldCreateMissingIndexWithSettingsAndMapping() {
+        Settings settings = new Settings();
+        Document mapping = Document.create();
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOps);
+        when(indexOps.exists()).thenReturn(false);
+        when(indexOps.createSettings(ProcessedArticleDocument.class)).thenReturn(settings);
+        when(indexOps.createMapping(ProcessedArticleDocument.class)).thenReturn(mapping);
+
+        indexingService.ensureIndex("articles-2026-10");
+
+        ArgumentCaptor<IndexCoordinates> coordinates = ArgumentCaptor.forClass(IndexCoordinates.class);
+        verify(elasticsearchOperations).indexOps(coordinates.capture());
+        assertThat(coordinates.getValue().getIndexName()).isEqualTo("articles-2026-10");
+        verify(indexOps).create(settings, mapping);
+    }
+
+    @Test
+    @DisplayName("Should leave an existing index alone")
+    void shouldNotRecreateExistingIndex() {
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOps);
+        when(indexOps.exists()).thenReturn(true);
+
+        indexingService.ensureIndex("articles-2026-10");
+
+        verify(indexOps, never()).create(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail the write, not fall back to a dynamic mapping, and retry creation on the next write")
+    void shouldFailWriteWhenIndexCannotBeCreated() {
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOps);
+        when(indexOps.exists()).thenThrow(new IllegalStateException("cluster unavailable"));
+
+        CompletableFuture<Void> first = indexingService.indexArticle(event("a1"), EntityExtractionResult.empty());
+        CompletableFuture<Void> second = indexingService.indexArticle(event("a2"), EntityExtractionResult.empty());
+
+        assertThat(first).isCompletedExceptionally();
+        assertThatThrownBy(first::join).hasRootCauseMessage("cluster unavailable");
+        assertThat(second).isCompletedExceptionally();
+        verify(indexOps, times(2)).exists();
+    }
+
+    @Test
+    @DisplayName("Should ship a mapping with nested entities, keyword ids and the analyzer its settings define")
+    void shouldShipIndexSettingsAndMapping() throws Exception {
+        JsonNode settings = readResource("/elasticsearch/article-settings.json");
+        JsonNode mapping = readResource("/elasticsearch/article-mapping.json").path("properties");
+
+        assertThat(settings.at("/analysis/analyzer/conflict_analyzer/tokenizer").asText()).isEqualTo("standard");
+        assertThat(mapping.at("/id/type").asText()).isEqualTo("keyword");
+        assertThat(mapping.at("/title/analyzer").asText()).isEqualTo("conflict_analyzer");
+        assertThat(mapping.at("/publishedAt/format").asText()).isEqualTo("date_hour_minute_second");
+        assertThat(mapping.at("/entities/type").asText()).isEqualTo("nested");
+        assertThat(mapping.at("/entities/properties/conflictRelevant/type").asText()).isEqualTo("boolean");
+        assertThat(mapping.at("/highPriority/type").asText()).isEqualTo("boolean");
+    }
+
+    @Test
+    @DisplayName("Should search title and description across monthly indices, sorted with unmapped-safe tie-breakers")
+    @SuppressWarnings("unchecked")
+    void shouldBuildSearchQuerySortAndHighlight() {
+        SearchHit<ProcessedArticleDocument> hit = mock(SearchHit.class);
+        when(hit.getSortValues()).thenReturn(List.of(2.5, 1755163815000L, "a1"));
+        SearchHits<ProcessedArticleDocument> searchHits = mock(SearchHits.class);
+        when(searchHits.getSearchHits()).thenReturn(List.of(hit));
+        when(searchHits.getSearchHit(0)).thenReturn(hit);
+        when(searchHits.getTotalHits()).thenReturn(7L);
+        when(elasticsearchOperations.search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class)))
+                .thenReturn(searchHits);
+
+        ArticleSearchResult result = indexingService.searchArticles("kyiv drone strike", 1, 3, null);
+
+        ArgumentCaptor<Query> captured = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<IndexCoordinates> coordinates = ArgumentCaptor.forClass(IndexCoordinates.class);
+        verify(elasticsearchOperations).search(captured.capture(), eq(ProcessedArticleDocument.class), coordinates.capture());
+        NativeQuery query = (NativeQuery) captured.getValue();
+
+        assertThat(coordinates.getValue().getIndexName()).isEqualTo("articles-*");
+        assertThat(query.getQuery().multiMatch().query()).isEqualTo("kyiv drone strike");
+        assertThat(query.getQuery().multiMatch().fields()).containsExactly("title^2", "description");
+
+        List<SortOptions> sorts = query.getSortOptions();
+        assertThat(sorts).hasSize(3);
+        assertThat(sorts.get(0).isScore()).isTrue();
+        assertThat(sorts.get(1).field().field()).isEqualTo("publishedAt");
+        assertThat(sorts.get(1).field().order()).isEqualTo(SortOrder.Desc);
+        assertThat(sorts.get(1).field().unmappedType()).isEqualTo(FieldType.Date);
+        assertThat(sorts.get(2).field().field()).isEqualTo("id");
+        assertThat(sorts.get(2).field().unmappedType()).isEqualTo(FieldType.Keyword);
+
+        assertThat(query.getHighlightQuery()).get()
+                .extracting(highlight -> highlight.getHighlight().getFields().stream().map(HighlightField::getName).toList())
+                .isEqualTo(List.of("title", "description"));
+        assertThat(query.getPageable().getPageNumber()).isEqualTo(3);
+        assertThat(query.getPageable().getPageSize()).isEqualTo(1);
+
+        assertThat(result.totalHits()).isEqualTo(7);
+        assertThat(result.hits()).hasSize(1);
+        assertThat(SearchCursor.decode(result.nextCursor())).containsExactly(2.5, 1755163815000L, "a1");
+    }
+
+    @Test
+    @DisplayName("Should continue from the cursor with search_after")
+    @SuppressWarnings("unchecked")
+    void shouldSearchAfterCursor() {
+        SearchHits<ProcessedArticleDocument> searchHits = mock(SearchHits.class);
+        when(searchHits.getSearchHits()).thenReturn(List.of());
+        when(elasticsearchOperations.search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class)))
+                .thenReturn(searchHits);
+
+        ArticleSearchResult result = indexingService.searchArticles("kyiv", 20, 900,
+                SearchCursor.encode(List.of(1.0, 1755163815000L, "a1")));
+
+        ArgumentCaptor<Query> captured = ArgumentCaptor.forClass(Query.class);
+        verify(elasticsearchOperations).search(captured.capture(), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class));
+        assertThat(captured.getValue().getSearchAfter()).containsExactly(1.0, 1755163815000L, "a1");
+        assertThat(captured.getValue().getPageable().getPageNumber()).isZero();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a page beyond the result window and point to the cursor")
+    void shouldRejectPageBeyondResultWindow() {
+        assertThatThrownBy(() -> indexingService.searchArticles("kyiv", 100, 100, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nextCursor");
+
+        verifyNoInteractions(elasticsearchOperations);
+    }
+
+    @Test
+    @DisplayName("Should propagate search failures instead of answering with no hits")
+    void shouldPropagateSearchFailures() {
+        when(elasticsearchOperations.search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class)))
+                .thenThrow(new IllegalStateException("cluster unavailable"));
+
+        assertThatThrownBy(() -> indexingService.searchArticles("kyiv", 20, 0, null))
+                .hasMessage("cluster unavailable");
+    }
+
+    @Test
+    @DisplayName("Should read counts from the filter aggregations and serve repeats from the cache")
+    void shouldParseAggregationsAndCacheCounts() {
+        articleIndices(Map.of("articles-2026-10", "nested"));
+        SearchHits<ProcessedArticleDocument> searchHits = statsResponse(42, 5, 17);
+        when(elasticsearchOperations.search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class)))
+                .thenReturn(searchHits);
+
+        IndexingStats stats = indexingService.getStats();
+        indexingService.getStats();
+
+        assertThat(stats.totalArticles()).isEqualTo(42);
+        assertThat(stats.highPriorityArticles()).isEqualTo(5);
+        assertThat(stats.conflictRelevantArticles()).isEqualTo(17);
+        assertThat(stats.pendingInBatch()).isZero();
+        verify(elasticsearchOperations, times(1))
+                .search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class));
+    }
+
+    @Test
+    @DisplayName("Should count nested and object-mapped entity indices with their own queries and add them up")
+    void shouldCountEachEntityMappingSeparately() {
+        articleIndices(Map.of("articles-2026-10", "nested", "articles-2024-01", "object"));
+        SearchHits<ProcessedArticleDocument> nestedHits = statsResponse(40, 4, 10);
+        SearchHits<ProcessedArticleDocument> objectHits = statsResponse(2, 1, 2);
+        doReturn(nestedHits).when(elasticsearchOperations).search(any(Query.class), eq(ProcessedArticleDocument.class),
+                argThat((IndexCoordinates index) -> index.getIndexName().equals("articles-2026-10")));
+        doReturn(objectHits).when(elasticsearchOperations).search(any(Query.class), eq(ProcessedArticleDocument.class),
+                argThat((IndexCoordinates index) -> index.getIndexName().equals("articles-2024-01")));
+
+        IndexingStats stats = indexingService.getStats();
+
+        assertThat(stats.totalArticles()).isEqualTo(42);
+        assertThat(stats.highPriorityArticles()).isEqualTo(5);
+        assertThat(stats.conflictRelevantArticles()).isEqualTo(12);
+
+        ArgumentCaptor<Query> captured = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<IndexCoordinates> coordinates = ArgumentCaptor.forClass(IndexCoordinates.class);
+        verify(elasticsearchOperations, times(2))
+                .search(captured.capture(), eq(ProcessedArticleDocument.class), coordinates.capture());
+        for (int i = 0; i < 2; i++) {
+            var conflictRelevant = ((NativeQuery) captured.getAllValues().get(i)).getAggregations()
+                    .get("conflict_relevant").filter();
+            if (coordinates.getAllValues().get(i).getIndexName().equals("articles-2026-10")) {
+                assertThat(conflictRelevant.nested().path()).isEqualTo("entities");
+                assertThat(conflictRelevant.nested().query().term().field()).isEqualTo("entities.conflictRelevant");
+            } else {
+                assertThat(conflictRelevant.isNested()).isFalse();
+                assertThat(conflictRelevant.term().field()).isEqualTo("entities.conflictRelevant");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report zero articles without searching while no article index exists")
+    void shouldReportZeroWithoutIndices() {
+        articleIndices(Map.of());
+
+        IndexingStats stats = indexingService.getStats();
+
+        assertThat(stats.totalArticles()).isZero();
+        assertThat(stats.conflictRelevantArticles()).isZero();
+        verify(elasticsearchOperations, never())
+                .search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class));
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed stats request without caching it")
+    void shouldNotCacheFailedStats() {
+        articleIndices(Map.of("articles-2026-10", "nested"));
+        SearchHits<ProcessedArticleDocument> searchHits = statsResponse(42, 5, 17);
+        when(elasticsearchOperations.search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class)))
+                .thenThrow(new IllegalStateException("cluster unavailable"))
+                .thenReturn(searchHits);
+
+        assertThatThrownBy(indexingService::getStats).hasMessage("cluster unavailable");
+
+        assertThat(indexingService.getStats().totalArticles()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Should fail rather than report zeros when the response has no aggregations")
+    @SuppressWarnings("unchecked")
+    void shouldFailWhenAggregationsAreMissing() {
+        articleIndices(Map.of("articles-2026-10", "nested"));
+        SearchHits<ProcessedArticleDocument> searchHits = mock(SearchHits.class);
+        when(elasticsearchOperations.search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class)))
+                .thenReturn(searchHits);
+
+        assertThatThrownBy(indexingService::getStats).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(indexingService::getStats).isInstanceOf(IllegalStateException.class);
+
+        verify(elasticsearchOperations, times(2))
+                .search(any(Query.class), eq(ProcessedArticleDocument.class), any(IndexCoordinates.class));
+    }
+
+    /**
+     * Article indices by name, with how each maps its entities ("nested" or "object")
+     */
+    private void articleIndices(Map<String, String> entityMappings) {
+        List<IndexInformation> indices = entityMappings.entrySet().stream()
+                .map(entry -> {
+                    IndexInformation index = mock(IndexInformation.class);
+                    when(index.getName()).thenReturn(entry.getKey());
+                    when(index.getMapping()).thenReturn(Document.from(Map.of("properties",
+                            Map.of("entities", Map.of("type", entry.getValue())))));
+                    return index;
+                })
+                .toList();
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOps);
+        when(indexOps.getInformation()).thenReturn(indices);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<ProcessedArticleDocument> statsResponse(long total, long highPriority, long conflictRelevant) {
+        SearchHits<ProcessedArticleDocument> searchHits = mock(SearchHits.class);
+        when(searchHits.getTotalHits()).thenReturn(total);
+        doReturn(new ElasticsearchAggregations(Map.of(
+                "high_priority", Aggregate.of(a -> a.filter(f -> f.docCount(highPriority))),
+                "conflict_relevant", Aggregate.of(a -> a.filter(f -> f.docCount(conflictRelevant))))))
+                .when(searchHits).getAggregations();
+        return searchHits;
+    }
+
+    private JsonNode readResource(String path) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            assertThat(in).as(path).isNotNull();
+            return new ObjectMapper().readTree(in);
+        }
+    }
+
+    private NewsIngestedEvent event(String id) {
+        return new NewsIngestedEvent(id, "Title " + id, "https://example.com/" + id, "Reuters",
+                LocalDateTime.now(), 0.5, Set.of(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,74 @@
+package io.conflictradar.processing.service.elasticsearch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MonthlyIndexNameTest {
+
+    @Test
+    @DisplayName("Should resolve the index once per month and report each rollover")
+    void shouldResolveOncePerMonth() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-08-31T23:59:00Z"));
+        List<String> created = new ArrayList<>();
+        MonthlyIndexName indexName = new MonthlyIndexName("articles-", clock, created::add);
+
+        assertThat(indexName.get()).isEqualTo("articles-2025-08");
+        assertThat(indexName.get()).isEqualTo("articles-2025-08");
+
+        clock.instant = Instant.parse("2025-09-01T00:00:30Z");
+        assertThat(indexName.get()).isEqualTo("articles-2025-09");
+
+        assertThat(created).containsExactly("articles-2025-08", "articles-2025-09");
+    }
+
+    @Test
+    @DisplayName("Should try the rollover again when creating the index failed")
+    void shouldRetryFailedRollover() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-08-14T12:00:00Z"));
+        List<String> attempts = new ArrayList<>();
+        MonthlyIndexName indexName = new MonthlyIndexName("articles-", clock, index -> {
+            attempts.add(index);
+            if (attempts.size() == 1) {
+                throw new IllegalStateException("cluster unavailable");
+            }
+        });
+
+        assertThatThrownBy(indexName::get).hasMessage("cluster unavailable");
+        assertThat(indexName.get()).isEqualTo("articles-2025-08");
+        assertThat(indexName.get()).isEqualTo("articles-2025-08");
+
+        assertThat(attempts).containsExactly("articles-2025-08", "articles-2025-08");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
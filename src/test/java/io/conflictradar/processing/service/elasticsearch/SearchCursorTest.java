@@ -0,0 +1,29 @@
+package io.conflictradar.processing.service.elasticsearch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip the sort values of the last hit")
+    void shouldRoundTripSortValues() {
+        List<Object> sortValues = List.of(3.25, 1755163815000L, "article-42");
+
+        String cursor = SearchCursor.encode(sortValues);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(SearchCursor.decode(cursor)).containsExactly(3.25, 1755163815000L, "article-42");
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> SearchCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
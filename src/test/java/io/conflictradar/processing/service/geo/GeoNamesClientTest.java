@@ -0,0 +1,148 @@
+package io.conflictradar.processing.service.geo;
+
+import com.sun.net.httpserver.HttpServer;
+import io.conflictradar.processing.config.NlpConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
+import io.conflictradar.processing.service.geo.GeoNamesService.GeoNamesResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GeoNamesClientTest {
+
+    private static final String KYIV_JSON =
+            "{\"geonames\":[{\"name\":\"Kyiv\",\"countryName\":\"Ukraine\",\"lat\":50.45,\"lng\":30.52,\"population\":2797553}]}";
+
+    private HttpServer server;
+    private Queue<Response> responses;
+    private List<Long> requestTimes;
+
+    private record Response(int status, String body, String retryAfter) {}
+
+    @BeforeEach
+    void setUp() throws IOException {
+        responses = new ConcurrentLinkedQueue<>();
+        requestTimes = new CopyOnWriteArrayList<>();
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/searchJSON", exchange -> {
+            requestTimes.add(System.nanoTime());
+            Response response = responses.poll();
+            if (response == null) {
+                response = new Response(500, "{}", null);
+            }
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (response.retryAfter() != null) {
+                exchange.getResponseHeaders().add("Retry-After", response.retryAfter());
+            }
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should retry server errors and return the first result")
+    void shouldRetryServerErrors() {
+        responses.add(new Response(503, "{}", null));
+        responses.add(new Response(200, KYIV_JSON, null));
+
+        Optional<GeoNamesResponse.GeoName> result = createClient(2).search("Kyiv").block(Duration.ofSeconds(10));
+
+        assertThat(result).get().extracting(GeoNamesResponse.GeoName::name).isEqualTo("Kyiv");
+        assertThat(requestTimes).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should pause requests for the Retry-After period of a 429")
+    void shouldHonorRetryAfterOn429() {
+        responses.add(new Response(429, "{}", "1"));
+        responses.add(new Response(200, KYIV_JSON, null));
+
+        Optional<GeoNamesResponse.GeoName> result = createClient(2).search("Kyiv").block(Duration.ofSeconds(10));
+
+        assertThat(result).isPresent();
+        assertThat(requestTimes).hasSize(2);
+        assertThat(Duration.ofNanos(requestTimes.get(1) - requestTimes.get(0)))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(900));
+    }
+
+    @Test
+    @DisplayName("Should not retry client errors and stop after the configured retries")
+    void shouldNotRetryClientErrorsAndStopAfterMaxRetries() {
+        responses.add(new Response(400, "{}", null));
+
+        assertThatThrownBy(() -> createClient(2).search("Kyiv").block(Duration.ofSeconds(10)))
+                .isInstanceOf(WebClientResponseException.BadRequest.class);
+        assertThat(requestTimes).hasSize(1);
+
+        requestTimes.clear();
+        assertThatThrownBy(() -> createClient(2).search("Kyiv").block(Duration.ofSeconds(10)))
+                .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        assertThat(requestTimes).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should refuse a lookup whose permit is further away than the resolution deadline")
+    void shouldRefuseLookupBeyondDeadline() {
+        responses.add(new Response(200, KYIV_JSON, null));
+        GeoNamesClient client = createClient(0, 1.0, Duration.ofMillis(500));
+
+        assertThat(client.search("Kyiv").block(Duration.ofSeconds(10))).isPresent();
+        assertThatThrownBy(() -> client.search("Kyiv").block(Duration.ofSeconds(10)))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(requestTimes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should give the permit back when a waiting lookup is cancelled")
+    void shouldReleasePermitOfCancelledLookup() {
+        responses.add(new Response(200, KYIV_JSON, null));
+        responses.add(new Response(200, KYIV_JSON, null));
+        GeoNamesClient client = createClient(0, 1.0, Duration.ofMillis(1500));
+
+        assertThat(client.search("Kyiv").block(Duration.ofSeconds(10))).isPresent();
+
+        // Waits about a second for its permit, then gives up
+        client.search("Kyiv").subscribe().dispose();
+
+        // Without the refund this permit would be two seconds away, past the deadline
+        assertThat(client.search("Kyiv").block(Duration.ofSeconds(10))).isPresent();
+        assertThat(requestTimes).hasSize(2);
+    }
+
+    private GeoNamesClient createClient(int maxRetries) {
+        return createClient(maxRetries, 100.0, Duration.ofSeconds(2));
+    }
+
+    private GeoNamesClient createClient(int maxRetries, double requestsPerSecond, Duration resolutionTimeout) {
+        NlpConfig.Geographic geographic = new NlpConfig.Geographic("demo",
+                "http://localhost:" + server.getAddress().getPort(), Duration.ofHours(1), maxRetries,
+                resolutionTimeout, 4, requestsPerSecond, List.of(), null, List.of("P", "A"), true);
+        return new GeoNamesClient(new ProcessingConfig(null, new NlpConfig(null, geographic, null, null), null, null));
+    }
+}
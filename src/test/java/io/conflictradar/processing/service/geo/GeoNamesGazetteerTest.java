@@ -0,0 +1,111 @@
+package io.conflictradar.processing.service.geo;
+
+import io.conflictradar.processing.config.NlpConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GeoNamesGazetteerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dump;
+    private Path binary;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dump = tempDir.resolve("cities.txt");
+        Files.writeString(dump, String.join("\n",
+                "703448\tKyiv\tKyiv\tKiev\t50.45466\t30.5238\tP\tPPLC\tUA\t\t12\t\t\t\t2797553\t\t187\tEurope/Kiev\t2019-09-05",
+                "690791\tUkraine\tUkraine\tUkraina\t49.0\t32.0\tA\tPCLI\tUA\t\t00\t\t\t\t44622516\t\t\t\t2019-09-05"
+        ), StandardCharsets.UTF_8);
+        binary = tempDir.resolve("gazetteer.bin");
+    }
+
+    @Test
+    @DisplayName("Should reuse the compiled file while dump and settings are unchanged")
+    void shouldReuseCompiledFile() throws Exception {
+        createGazetteer(List.of("P", "A")).load();
+        FileTime compiledAt = Files.getLastModifiedTime(binary);
+        Files.setLastModifiedTime(dump, FileTime.fromMillis(compiledAt.toMillis() - 60_000));
+
+        GeoNamesGazetteer gazetteer = createGazetteer(List.of("A", "P"));
+        gazetteer.load();
+
+        assertThat(Files.getLastModifiedTime(binary)).isEqualTo(compiledAt);
+        assertThat(gazetteer.resolve("Ukraina")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should recompile when the configured feature classes change")
+    void shouldRecompileWhenFeatureClassesChange() throws Exception {
+        GeoNamesGazetteer placesOnly = createGazetteer(List.of("P"));
+        placesOnly.load();
+        assertThat(placesOnly.resolve("Ukraine")).isEmpty();
+
+        GeoNamesGazetteer withCountries = createGazetteer(List.of("P", "A"));
+        withCountries.load();
+
+        assertThat(withCountries.resolve("Ukraine")).get()
+                .extracting(GazetteerPlace::featureCode).isEqualTo("PCLI");
+        assertThat(withCountries.version()).isNotEqualTo(placesOnly.version()).startsWith("places=2,");
+        assertThat(MappedGazetteerIndex.open(binary).sourceConfig()).contains("featureClasses=[A, P]");
+    }
+
+    @Test
+    @DisplayName("Should map the compiled file as it is when no dump is configured")
+    void shouldUseCompiledFileWithoutDumps() throws Exception {
+        createGazetteer(List.of("P", "A")).load();
+        byte[] compiled = Files.readAllBytes(binary);
+
+        GeoNamesGazetteer gazetteer = createGazetteer(List.of(), List.of("P", "A"));
+        gazetteer.load();
+
+        assertThat(Files.readAllBytes(binary)).isEqualTo(compiled);
+        assertThat(gazetteer.resolve("Kyiv")).isPresent();
+        assertThat(gazetteer.version()).startsWith("places=2,");
+    }
+
+    @Test
+    @DisplayName("Should not recompile over the compiled file when a configured dump is missing")
+    void shouldNotRecompileFromMissingDump() throws Exception {
+        Path regions = tempDir.resolve("regions.txt");
+        Files.writeString(regions,
+                "706483\tKharkiv\tKharkiv\tKharkov\t49.98081\t36.25272\tP\tPPLA\tUA\t\t07\t\t\t\t1446107\t\t\tEurope/Kiev\t2019-09-05",
+                StandardCharsets.UTF_8);
+        List<String> dumps = List.of(dump.toString(), regions.toString());
+        createGazetteer(dumps, List.of("P", "A")).load();
+        byte[] compiled = Files.readAllBytes(binary);
+
+        Files.delete(regions);
+        GeoNamesGazetteer gazetteer = createGazetteer(dumps, List.of("P", "A"));
+        gazetteer.load();
+
+        assertThat(Files.readAllBytes(binary)).isEqualTo(compiled);
+        assertThat(gazetteer.resolve("Kharkiv")).isPresent();
+        assertThat(gazetteer.version()).startsWith("places=3,").contains("regions.txt");
+    }
+
+    private GeoNamesGazetteer createGazetteer(List<String> featureClasses) {
+        return createGazetteer(List.of(dump.toString()), featureClasses);
+    }
+
+    private GeoNamesGazetteer createGazetteer(List<String> dumps, List<String> featureClasses) {
+        NlpConfig.Geographic geographic = new NlpConfig.Geographic("demo", "http://localhost",
+                Duration.ofHours(1), 0, Duration.ofSeconds(2), 4, 10.0, dumps,
+                binary.toString(), featureClasses, false);
+        return new GeoNamesGazetteer(new ProcessingConfig(null, new NlpConfig(null, geographic, null, null), null, null));
+    }
+}
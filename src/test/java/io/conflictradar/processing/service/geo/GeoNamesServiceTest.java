@@ -0,0 +1,218 @@
+package io.conflictradar.processing.service.geo;
+
+import io.conflictradar.processing.config.NlpConfig;
+import io.conflictradar.processing.config.ProcessingConfig;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.lexicon.ConflictLexicon;
+import io.conflictradar.processing.lexicon.ConflictLexicons;
+import io.conflictradar.processing.lexicon.ConflictMatcher;
+import io.conflictradar.processing.service.geo.GeoNamesService.GeoLocation;
+import io.conflictradar.processing.service.geo.GeoNamesService.GeoNamesResponse;
+import io.conflictradar.processing.service.geo.GeoNamesService.GeographicResolutionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeoNamesServiceTest {
+
+    @Mock
+    private GeoNamesGazetteer gazetteer;
+    @Mock
+    private GeoNamesClient geoNamesClient;
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("geoResolution");
+    }
+
+    @Test
+    @DisplayName("Should resolve gazetteer names locally without calling the API")
+    void shouldResolveLocallyWithoutRemoteCall() {
+        when(gazetteer.resolve("Kyiv")).thenReturn(Optional.of(
+                new GazetteerPlace("Kyiv", "UA", 50.45466, 30.5238, 2_797_553, "PPLC")));
+        when(gazetteer.countryName("UA")).thenReturn("Ukraine");
+
+        Optional<GeoLocation> location = createService(true).resolveLocation("Kyiv");
+
+        assertThat(location).get().extracting(GeoLocation::country).isEqualTo("Ukraine");
+        verifyNoInteractions(geoNamesClient);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the API for unknown names and cache the result")
+    void shouldFallBackToRemoteAndCache() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        when(gazetteer.resolve("Bakhmut")).thenReturn(Optional.empty());
+        when(geoNamesClient.search("Bakhmut")).thenReturn(Mono.just(Optional.of(
+                new GeoNamesResponse.GeoName("Bakhmut", "Ukraine", 48.59, 38.0, 70_000))));
+
+        GeoNamesService service = createService(true);
+
+        assertThat(service.resolveLocation("Bakhmut")).get().extracting(GeoLocation::name).isEqualTo("Bakhmut");
+        assertThat(service.resolveLocation("Bakhmut")).isPresent();
+
+        verify(geoNamesClient, times(1)).search("Bakhmut");
+        assertThat(cacheManager.getCache("geoResolution").get("bakhmut")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should answer cached locations and cached unknown names without calling the API")
+    void shouldServeCachedLocationsAndUnknownNames() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        when(gazetteer.resolve(anyString())).thenReturn(Optional.empty());
+        GeoLocation bakhmut = new GeoLocation("Bakhmut", "Ukraine", 48.59, 38.0, "48.590000,38.000000", 0.95, true);
+        cacheManager.getCache("geoResolution").put("bakhmut", bakhmut);
+        cacheManager.getCache("geoResolution").put("atlantis", null);
+
+        GeoNamesService service = createService(true);
+
+        assertThat(service.resolveLocation("Bakhmut")).contains(bakhmut);
+        assertThat(service.resolveLocation("Atlantis")).isEmpty();
+        verifyNoInteractions(geoNamesClient);
+    }
+
+    @Test
+    @DisplayName("Should classify cached locations with the current conflict lexicon")
+    void shouldApplyReloadedLexiconToCachedLocations() {
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        when(gazetteer.resolve(anyString())).thenReturn(Optional.empty());
+        cacheManager.getCache("geoResolution").put("bakhmut",
+                new GeoLocation("Bakhmut", "Ukraine", 48.59, 38.0, "48.590000,38.000000", 0.95, true));
+
+        GeoNamesService service = createService(true);
+        ConflictMatcher bundled = ConflictLexicons.install(ConflictMatcher.compile(
+                new ConflictLexicon(2, List.of("sudan"), List.of(), List.of(), List.of(), List.of())));
+        try {
+            assertThat(service.resolveLocation("Bakhmut")).get()
+                    .extracting(GeoLocation::isConflictZone).isEqualTo(false);
+        } finally {
+            ConflictLexicons.install(bundled);
+        }
+        assertThat(service.resolveLocation("Bakhmut")).get()
+                .extracting(GeoLocation::isConflictZone).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("Should leave unknown names unresolved when the remote fallback is disabled")
+    void shouldNotCallRemoteWhenFallbackDisabled() {
+        when(gazetteer.resolve(anyString())).thenReturn(Optional.empty());
+
+        assertThat(createService(false).resolveLocation("Atlantis")).isEmpty();
+
+        verifyNoInteractions(geoNamesClient);
+    }
+
+    @Test
+    @DisplayName("Should look up each case-folded name once per article, including the primary location")
+    void shouldLookUpEachDistinctNameOnce() {
+        when(gazetteer.resolve(anyString())).thenReturn(Optional.empty());
+        when(geoNamesClient.search(anyString())).thenReturn(Mono.just(Optional.of(
+                new GeoNamesResponse.GeoName("Bakhmut", "Ukraine", 48.59, 38.0, 70_000))));
+
+        GeographicResolutionResult result = createService(true).resolveLocations(List.of(
+                location("Bakhmut", 0.6),
+                location("BAKHMUT", 0.9),
+                location("bakhmut", 0.7)
+        ));
+
+        assertThat(result.primaryLocation()).isNotNull();
+        assertThat(result.allLocations()).hasSize(1);
+        verify(geoNamesClient, times(1)).search(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return what finished at the deadline and cancel the late API request")
+    void shouldCancelLateLookupsAtDeadline() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(gazetteer.resolve(anyString())).thenReturn(Optional.empty());
+        when(gazetteer.resolve("Kyiv")).thenReturn(Optional.of(
+                new GazetteerPlace("Kyiv", "UA", 50.45466, 30.5238, 2_797_553, "PPLC")));
+        when(gazetteer.countryName("UA")).thenReturn("Ukraine");
+        when(geoNamesClient.search("Avdiivka")).thenReturn(Mono.<Optional<GeoNamesResponse.GeoName>>never()
+                .doOnCancel(() -> cancelled.set(true)));
+
+        GeoNamesService service = createService(true, Duration.ofMillis(100));
+        GeographicResolutionResult result = service.resolveLocationsAsync(List.of(
+                location("Kyiv", 0.9),
+                location("Avdiivka", 0.8)
+        )).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getLocationNames()).containsExactly("Kyiv");
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should cancel the API requests when the caller cancels the resolution")
+    void shouldCancelLookupsWhenResolutionCancelled() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(gazetteer.resolve(anyString())).thenReturn(Optional.empty());
+        when(geoNamesClient.search("Avdiivka")).thenReturn(Mono.<Optional<GeoNamesResponse.GeoName>>never()
+                .doOnCancel(() -> cancelled.set(true)));
+
+        CompletableFuture<GeographicResolutionResult> resolution = createService(true, Duration.ofSeconds(30))
+                .resolveLocationsAsync(List.of(location("Avdiivka", 0.8)));
+        resolution.cancel(true);
+
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave a location unresolved, without blocking, when the geo executor is saturated")
+    void shouldSkipLookupWhenGeoExecutorSaturated() throws Exception {
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("geo executor full");
+        };
+
+        CompletableFuture<Optional<GeoLocation>> lookup =
+                createService(true, Duration.ofSeconds(2), saturated).resolveLocationAsync("Kyiv");
+
+        assertThat(lookup.get(1, TimeUnit.SECONDS)).isEmpty();
+        verifyNoInteractions(gazetteer, geoNamesClient);
+    }
+
+    private ExtractedEntity location(String name, double confidence) {
+        return new ExtractedEntity(name, ExtractedEntity.EntityType.LOCATION, confidence, 0, name.length());
+    }
+
+    private GeoNamesService createService(boolean remoteFallback) {
+        return createService(remoteFallback, Duration.ofSeconds(2));
+    }
+
+    private GeoNamesService createService(boolean remoteFallback, Duration resolutionTimeout) {
+        return createService(remoteFallback, resolutionTimeout, Runnable::run);
+    }
+
+    private GeoNamesService createService(boolean remoteFallback, Duration resolutionTimeout, Executor geoExecutor) {
+        NlpConfig.Geographic geographic = new NlpConfig.Geographic("demo", "http://localhost",
+                Duration.ofHours(1), 0, resolutionTimeout, 4, 10.0, List.of(), null, List.of("P", "A"),
+                remoteFallback);
+        ProcessingConfig config = new ProcessingConfig(null, new NlpConfig(null, geographic, null, null), null, null);
+
+        return new GeoNamesService(config, gazetteer, geoNamesClient, cacheManagerProvider, geoExecutor);
+    }
+}
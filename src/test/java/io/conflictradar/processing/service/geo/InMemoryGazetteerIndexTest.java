@@ -0,0 +1,85 @@
+package io.conflictradar.processing.service.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryGazetteerIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryGazetteerIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path dump = tempDir.resolve("cities.txt");
+        Files.writeString(dump, String.join("\n",
+                "703448\tKyiv\tKyiv\tKiev,Kiew,Kijów\t50.45466\t30.5238\tP\tPPLC\tUA\t\t12\t\t\t\t2797553\t\t187\tEurope/Kiev\t2019-09-05",
+                "690791\tUkraine\tUkraine\tUkraina\t49.0\t32.0\tA\tPCLI\tUA\t\t00\t\t\t\t44622516\t\t\t\t2019-09-05",
+                "4999999\tUkraine\tUkraine\t\t42.0\t-83.0\tP\tPPL\tUS\t\tMI\t\t\t\t120\t\t\t\t2019-09-05",
+                "3333333\tSomewhere\tSomewhere\t\t1.0\t1.0\tH\tLK\tUS\t\t\t\t\t\t0\t\t\t\t2019-09-05"
+        ), StandardCharsets.UTF_8);
+
+        index = InMemoryGazetteerIndex.load(List.of(dump), Set.of("P", "A"));
+    }
+
+    @Test
+    @DisplayName("Should resolve alternate and ASCII-folded names")
+    void shouldResolveAlternateAndFoldedNames() {
+        assertThat(index.lookup("Kiev")).extracting(GazetteerPlace::name).containsExactly("Kyiv");
+        assertThat(index.lookup("kijow")).extracting(GazetteerPlace::name).containsExactly("Kyiv");
+        assertThat(index.lookup("  KYIV ")).extracting(GazetteerPlace::name).containsExactly("Kyiv");
+    }
+
+    @Test
+    @DisplayName("Should rank countries before populated places of the same name")
+    void shouldRankCountriesFirst() {
+        assertThat(index.lookup("Ukraine"))
+                .extracting(GazetteerPlace::featureCode)
+                .containsExactly("PCLI", "PPL");
+    }
+
+    @Test
+    @DisplayName("Should find places by name prefix, deduplicated and ranked")
+    void shouldFindPlacesByPrefix() {
+        assertThat(index.lookupPrefix("Ukr", 5))
+                .extracting(GazetteerPlace::featureCode)
+                .containsExactly("PCLI", "PPL");
+        assertThat(index.lookupPrefix("ki", 5)).extracting(GazetteerPlace::name).containsExactly("Kyiv");
+        assertThat(index.lookupPrefix("Ukr", 1)).extracting(GazetteerPlace::featureCode).containsExactly("PCLI");
+        assertThat(index.lookupPrefix("Atl", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match only whole-word extensions for a prefix ending in a space")
+    void shouldMatchWholeWordExtensions() {
+        InMemoryGazetteerIndex regions = new InMemoryGazetteerIndex.Builder()
+                .add(new GazetteerPlace("Kherson Oblast", "UA", 46.75, 33.35, 1_000_000, "ADM1"),
+                        List.of("Kherson Oblast"))
+                .add(new GazetteerPlace("Khersones", "UA", 44.6, 33.5, 0, "PPL"), List.of("Khersones"))
+                .build();
+
+        assertThat(regions.lookupPrefix("Kherson ", 5)).extracting(GazetteerPlace::name)
+                .containsExactly("Kherson Oblast");
+        assertThat(regions.lookupPrefix("Kherson", 5)).extracting(GazetteerPlace::name)
+                .containsExactly("Kherson Oblast", "Khersones");
+    }
+
+    @Test
+    @DisplayName("Should skip filtered feature classes and unknown names")
+    void shouldSkipFilteredFeatureClassesAndUnknownNames() {
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.lookup("Somewhere")).isEmpty();
+        assertThat(index.lookup("Atlantis")).isEmpty();
+    }
+}
@@ -0,0 +1,48 @@
+package io.conflictradar.processing.service.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MappedGazetteerIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should answer lookups from the compiled file exactly like the in-memory index")
+    void shouldMatchInMemoryIndex() throws Exception {
+        InMemoryGazetteerIndex.Builder builder = new InMemoryGazetteerIndex.Builder()
+                .add(new GazetteerPlace("Kyiv", "UA", 50.45466, 30.5238, 2_797_553, "PPLC"),
+                        List.of("Kyiv", "Kiev", "Kijów", "Київ"))
+                .add(new GazetteerPlace("Ukraine", "UA", 49.0, 32.0, 44_622_516, "PCLI"),
+                        List.of("Ukraine", "Ukraina"))
+                .add(new GazetteerPlace("Ukraine", "US", 42.0, -83.0, 120, "PPL"),
+                        List.of("Ukraine"));
+        for (int i = 0; i < 1_000; i++) {
+            builder.add(new GazetteerPlace("Place " + i, "US", i, -i, i * 10L, "PPL"), List.of("Place " + i));
+        }
+        InMemoryGazetteerIndex inMemory = builder.build();
+
+        Path file = tempDir.resolve("gazetteer/cities.bin");
+        GazetteerCompiler.compile(inMemory, file, "featureClasses=[A, P]");
+        MappedGazetteerIndex mapped = MappedGazetteerIndex.open(file);
+
+        assertThat(mapped.size()).isEqualTo(inMemory.size());
+        assertThat(mapped.sourceConfig()).isEqualTo("featureClasses=[A, P]");
+        for (String name : List.of("kijow", "Київ", " UKRAINE ", "Place 999", "Atlantis")) {
+            assertThat(mapped.lookup(name)).as(name).isEqualTo(inMemory.lookup(name));
+        }
+        assertThat(mapped.lookup("Kiev")).extracting(GazetteerPlace::name).containsExactly("Kyiv");
+
+        for (String prefix : List.of("kij", "Ukr", "Ки", "Place 99", "Place 1 ", "zzz")) {
+            assertThat(mapped.lookupPrefix(prefix, 20)).as(prefix).isEqualTo(inMemory.lookupPrefix(prefix, 20));
+        }
+        assertThat(mapped.lookupPrefix("Place 99", 20)).hasSize(11);
+    }
+}
@@ -0,0 +1,73 @@
+package io.conflictradar.processing.service.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should grant the burst immediately and then space permits by the rate")
+    void shouldSpacePermitsAfterBurst() {
+        TokenBucket bucket = new TokenBucket(2.0, 2, clock::get);
+
+        assertThat(reserve(bucket)).isZero();
+        assertThat(reserve(bucket)).isZero();
+        assertThat(reserve(bucket)).isEqualTo(Duration.ofMillis(500));
+        assertThat(reserve(bucket)).isEqualTo(Duration.ofSeconds(1));
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(reserve(bucket)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hold back all permits while paused after a rate limit response")
+    void shouldHonorPause() {
+        TokenBucket bucket = new TokenBucket(10.0, 5, clock::get);
+
+        bucket.pause(Duration.ofSeconds(3));
+
+        assertThat(reserve(bucket)).isEqualTo(Duration.ofMillis(3100));
+
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(reserve(bucket)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse a permit beyond the caller's wait without taking it")
+    void shouldRefusePermitBeyondMaxWait() {
+        TokenBucket bucket = new TokenBucket(1.0, 1, clock::get);
+
+        assertThat(bucket.reserve(Duration.ofMillis(500))).contains(Duration.ZERO);
+        for (int i = 0; i < 100; i++) {
+            assertThat(bucket.reserve(Duration.ofMillis(500))).isEmpty();
+        }
+
+        // The refusals left no debt behind
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(bucket.reserve(Duration.ofMillis(500))).contains(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should give a released permit to the next caller")
+    void shouldReuseReleasedPermit() {
+        TokenBucket bucket = new TokenBucket(1.0, 1, clock::get);
+
+        assertThat(reserve(bucket)).isZero();
+        assertThat(reserve(bucket)).isEqualTo(Duration.ofSeconds(1));
+
+        bucket.release();
+
+        assertThat(reserve(bucket)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    private static Duration reserve(TokenBucket bucket) {
+        return bucket.reserve(Duration.ofMinutes(1)).orElseThrow();
+    }
+}
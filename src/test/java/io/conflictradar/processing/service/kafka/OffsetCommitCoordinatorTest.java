@@ -0,0 +1,183 @@
+package io.conflictradar.processing.service.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OffsetCommitCoordinatorTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("news-ingested", 0);
+
+    @Mock
+    private ConsumerRecordRecoverer deadLetterRecoverer;
+    @Mock
+    private Consumer<String, String> consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffsetCommitCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coordinator = new OffsetCommitCoordinator(deadLetterRecoverer, meterRegistry, Duration.ofMillis(20));
+        lenient().when(consumer.assignment()).thenReturn(Set.of(PARTITION));
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinator.stop();
+    }
+
+    @Test
+    @DisplayName("Should commit only up to the lowest offset still waiting for indexing")
+    void shouldCommitUpToLowestPendingOffset() {
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        CompletableFuture<Void> second = new CompletableFuture<>();
+        CompletableFuture<Void> third = new CompletableFuture<>();
+        coordinator.track(record(10), first);
+        coordinator.track(record(11), second);
+        coordinator.track(record(12), third);
+
+        second.complete(null);
+        third.complete(null);
+        coordinator.commitReady(consumer);
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(10)));
+
+        first.complete(null);
+        coordinator.commitReady(consumer);
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(13)));
+        assertThat(coordinator.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not commit again when the commit point has not moved")
+    void shouldSkipCommitWhenNothingMoved() {
+        coordinator.track(record(10), CompletableFuture.completedFuture(null));
+
+        coordinator.commitReady(consumer);
+        coordinator.commitReady(consumer);
+
+        verify(consumer, times(1)).commitSync(anyMap());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a record whose indexing failed and commit past it")
+    void shouldDeadLetterFailedRecordAndCommitPastIt() {
+        ConsumerRecord<String, String> record = record(10);
+        coordinator.track(record, CompletableFuture.failedFuture(new IllegalStateException("ES failed")));
+
+        verify(deadLetterRecoverer).accept(eq(record), any(IllegalStateException.class));
+        coordinator.commitReady(consumer);
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(11)));
+    }
+
+    @Test
+    @DisplayName("Should hold the offset while dead-lettering fails and release it once a retry succeeds")
+    void shouldRetryDeadLetteringAndThenReleaseOffset() throws Exception {
+        doThrow(new IllegalStateException("Kafka unavailable"))
+                .doThrow(new IllegalStateException("Kafka unavailable"))
+                .doNothing()
+                .when(deadLetterRecoverer).accept(any(), any());
+
+        coordinator.track(record(10), CompletableFuture.failedFuture(new IllegalStateException("ES failed")));
+        coordinator.commitReady(consumer);
+
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(10)));
+        assertThat(coordinator.pending()).isEqualTo(1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coordinator.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(coordinator.pending()).isZero();
+        verify(deadLetterRecoverer, times(3)).accept(any(), any());
+        assertThat(meterRegistry.get("processing.offsets.dead_letter_failures").counter().count()).isEqualTo(2.0);
+        coordinator.commitReady(consumer);
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(11)));
+    }
+
+    @Test
+    @DisplayName("Should not dead-letter a record whose partition was revoked before it failed")
+    void shouldNotDeadLetterAfterRevocation() {
+        CompletableFuture<Void> indexing = new CompletableFuture<>();
+        coordinator.track(record(10), indexing);
+
+        coordinator.onPartitionsRevokedBeforeCommit(consumer, List.of(PARTITION));
+        indexing.completeExceptionally(new IllegalStateException("ES failed"));
+
+        // Left for the next owner, which consumes it again from the committed offset
+        verifyNoInteractions(deadLetterRecoverer);
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(10)));
+    }
+
+    @Test
+    @DisplayName("Should commit past records the error handler forwarded to a retry topic")
+    void shouldCommitPastRecoveredRecords() {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        coordinator.track(record(10), pending);
+        coordinator.recovered(record(11), new IllegalStateException("NLP failed"));
+
+        coordinator.commitReady(consumer);
+        verify(consumer, never()).commitSync(anyMap());
+
+        pending.complete(null);
+        coordinator.commitReady(consumer);
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(12)));
+    }
+
+    @Test
+    @DisplayName("Should commit past every record of a batch the error handler dead-lettered")
+    void shouldCommitPastRecoveredBatch() {
+        ConsumerRecords<String, String> batch = new ConsumerRecords<>(Map.of(PARTITION, List.of(record(10), record(11))));
+
+        coordinator.recovered(batch, new IllegalStateException("listener failed"));
+        coordinator.commitReady(consumer);
+
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(12)));
+    }
+
+    @Test
+    @DisplayName("Should commit confirmed offsets and drop state for revoked partitions")
+    void shouldCommitAndForgetRevokedPartitions() {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        coordinator.track(record(10), CompletableFuture.completedFuture(null));
+        coordinator.track(record(11), pending);
+
+        coordinator.onPartitionsRevokedBeforeCommit(consumer, List.of(PARTITION));
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(11)));
+        assertThat(coordinator.pending()).isZero();
+
+        // A late completion from the old assignment changes nothing
+        pending.complete(null);
+        coordinator.commitReady(consumer);
+        verify(consumer, times(1)).commitSync(anyMap());
+    }
+
+    private ConsumerRecord<String, String> record(long offset) {
+        return new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset, "key", "value");
+    }
+}
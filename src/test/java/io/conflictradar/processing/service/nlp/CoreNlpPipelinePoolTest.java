@@ -0,0 +1,71 @@
+package io.conflictradar.processing.service.nlp;
+
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CoreNlpPipelinePoolTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should annotate on a borrowed pipeline and return it to the pool")
+    void shouldAnnotateAndReturnPipeline() {
+        StanfordCoreNLP pipeline = mock(StanfordCoreNLP.class);
+        CoreNlpPipelinePool pool = new CoreNlpPipelinePool(List.of(pipeline), 1, Duration.ofSeconds(1), meterRegistry);
+        Annotation document = new Annotation("Test text");
+
+        pool.annotate(document);
+        pool.annotate(document);
+
+        verify(pipeline, times(2)).annotate(document);
+        assertThat(pool.active()).isZero();
+        assertThat(meterRegistry.get("nlp.pipeline.pool.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject callers beyond the wait queue when all pipelines are busy")
+    void shouldRejectWhenSaturated() throws Exception {
+        StanfordCoreNLP pipeline = mock(StanfordCoreNLP.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(pipeline).annotate(any(Annotation.class));
+
+        CoreNlpPipelinePool pool = new CoreNlpPipelinePool(List.of(pipeline), 0, Duration.ofSeconds(1), meterRegistry);
+
+        CompletableFuture<Void> busy = CompletableFuture.runAsync(() -> pool.annotate(new Annotation("first")));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(pool.active()).isEqualTo(1);
+        assertThatThrownBy(() -> pool.annotate(new Annotation("second")))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("nlp.pipeline.pool.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        busy.get(5, TimeUnit.SECONDS);
+        assertThat(pool.active()).isZero();
+    }
+}
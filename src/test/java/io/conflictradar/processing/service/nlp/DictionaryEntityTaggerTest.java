@@ -0,0 +1,116 @@
+package io.conflictradar.processing.service.nlp;
+
+import io.conflictradar.processing.dto.nlp.ExtractedEntity;
+import io.conflictradar.processing.dto.nlp.ExtractedEntity.EntityType;
+import io.conflictradar.processing.service.geo.GazetteerPlace;
+import io.conflictradar.processing.service.geo.GeoNamesGazetteer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DictionaryEntityTaggerTest {
+
+    @Mock
+    private GeoNamesGazetteer gazetteer;
+
+    private DictionaryEntityTagger tagger;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(gazetteer.resolveExact(anyString())).thenReturn(Optional.empty());
+        tagger = new DictionaryEntityTagger(gazetteer);
+    }
+
+    @Test
+    @DisplayName("Should tag known actors and places with the longest dictionary phrase")
+    void shouldTagKnownEntities() {
+        String text = "Putin's envoy meets UN Security Council members in Kyiv";
+
+        DictionaryEntityTagger.Tagging tagging = tagger.tag(text);
+
+        assertThat(tagging.entities())
+                .extracting(ExtractedEntity::text, ExtractedEntity::type)
+                .containsExactly(
+                        tuple("Putin", EntityType.PERSON),
+                        tuple("UN Security Council", EntityType.ORGANIZATION),
+                        tuple("Kyiv", EntityType.LOCATION));
+        assertThat(tagging.entities().get(1).startPosition()).isEqualTo(text.indexOf("UN"));
+        assertThat(tagging.coverage()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should report low coverage when capitalized names are unknown")
+    void shouldReportUncoveredNames() {
+        DictionaryEntityTagger.Tagging tagging = tagger.tag("Lawmakers in Springfield question Governor Alvarez");
+
+        assertThat(tagging.entities()).isEmpty();
+        assertThat(tagging.coverage()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should accept only prominent gazetteer places")
+    void shouldUseProminentGazetteerPlaces() {
+        lenient().when(gazetteer.resolveExact("Odesa")).thenReturn(Optional.of(
+                new GazetteerPlace("Odesa", "UA", 46.48, 30.72, 1_015_826, "PPLA")));
+        lenient().when(gazetteer.resolveExact("Police")).thenReturn(Optional.of(
+                new GazetteerPlace("Police", "PL", 53.55, 14.57, 33_000, "PPL")));
+
+        DictionaryEntityTagger.Tagging tagging = tagger.tag("Police report drone strike on Odesa port");
+
+        assertThat(tagging.entities())
+                .extracting(ExtractedEntity::text)
+                .containsExactly("Odesa");
+    }
+
+    @Test
+    @DisplayName("Should not tag a word as a place because a longer gazetteer name starts with it")
+    void shouldIgnoreGazetteerPrefixMatches() {
+        lenient().when(gazetteer.resolve("South")).thenReturn(Optional.of(
+                new GazetteerPlace("South Sudan", "SS", 7.5, 30.0, 11_000_000, "PCLI")));
+        lenient().when(gazetteer.resolve("United")).thenReturn(Optional.of(
+                new GazetteerPlace("United States", "US", 39.76, -98.5, 327_000_000, "PCLI")));
+
+        DictionaryEntityTagger.Tagging tagging = tagger.tag("South African and United Airlines Crews Strike in Kyiv");
+
+        assertThat(tagging.entities())
+                .extracting(ExtractedEntity::text)
+                .containsExactly("Kyiv");
+        assertThat(tagging.coverage()).isLessThan(0.5);
+    }
+
+    @Test
+    @DisplayName("Should match acronyms only as written")
+    void shouldMatchAcronymsCaseSensitively() {
+        assertThat(tagger.tag("Who Let Us In? Un Certain Regard Picks Announced").entities()).isEmpty();
+
+        assertThat(tagger.tag("WHO and UN urge US to fund Gaza aid").entities())
+                .extracting(ExtractedEntity::text, ExtractedEntity::type)
+                .containsExactly(
+                        tuple("WHO", EntityType.ORGANIZATION),
+                        tuple("UN", EntityType.ORGANIZATION),
+                        tuple("US", EntityType.LOCATION),
+                        tuple("Gaza", EntityType.LOCATION));
+    }
+
+    @Test
+    @DisplayName("Should describe a different gazetteer differently so cached fast-path results are invalidated")
+    void shouldIncludeGazetteerVersionInDescription() {
+        when(gazetteer.version()).thenReturn("places=25000,modified=2026-09-01T00:00:00Z");
+        String before = tagger.describe();
+
+        when(gazetteer.version()).thenReturn("places=25140,modified=2026-10-01T00:00:00Z");
+
+        assertThat(tagger.describe()).isNotEqualTo(before).contains("places=25140");
+    }
+}
@@ -0,0 +1,68 @@
+package io.conflictradar.processing.service.nlp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EntityExtractionKeyGeneratorTest {
+
+    @Test
+    @DisplayName("Should hash the exact text so differently normalized inputs do not share offsets")
+    void shouldHashExactText() {
+        String composed = "Zelensky visits Kyiv caf\u00e9";
+        String decomposed = "Zelensky visits Kyiv cafe\u0301";
+
+        assertThat(EntityExtractionKeyGenerator.contentHash(composed))
+                .isNotEqualTo(EntityExtractionKeyGenerator.contentHash(decomposed))
+                .hasSize(32);
+        assertThat(EntityExtractionKeyGenerator.contentHash(composed))
+                .isEqualTo(EntityExtractionKeyGenerator.contentHash("Zelensky visits Kyiv caf\u00e9"));
+    }
+
+    @Test
+    @DisplayName("Should not collide where String.hashCode does")
+    void shouldNotCollideWhereStringHashCodeDoes() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        assertThat(EntityExtractionKeyGenerator.contentHash("Aa"))
+                .isNotEqualTo(EntityExtractionKeyGenerator.contentHash("BB"));
+    }
+
+    @Test
+    @DisplayName("Should change fingerprint when pipeline configuration changes")
+    void shouldChangeFingerprintWhenPipelineChanges() {
+        Properties props = new Properties();
+        props.setProperty("annotators", "tokenize,ssplit,pos,lemma,ner");
+        String before = EntityExtractionKeyGenerator.fingerprint(props, "4.5.4");
+
+        props.setProperty("annotators", "tokenize,ssplit,ner");
+
+        assertThat(EntityExtractionKeyGenerator.fingerprint(props, "4.5.4")).isNotEqualTo(before);
+        assertThat(EntityExtractionKeyGenerator.fingerprint(props, "4.5.5"))
+                .isNotEqualTo(EntityExtractionKeyGenerator.fingerprint(props, "4.5.4"));
+    }
+
+    @Test
+    @DisplayName("Should require a version and derive one from model content")
+    void shouldRequireVersionAndDeriveItFromModelContent() throws Exception {
+        Properties props = new Properties();
+        props.setProperty("annotators", "tokenize,ssplit,ner");
+
+        assertThatThrownBy(() -> EntityExtractionKeyGenerator.fingerprint(props, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        String modelA = EntityExtractionKeyGenerator.contentVersion(
+                new ByteArrayInputStream("ner model a".getBytes(StandardCharsets.UTF_8)));
+        String modelB = EntityExtractionKeyGenerator.contentVersion(
+                new ByteArrayInputStream("ner model b".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(modelA).hasSize(16).isNotEqualTo(modelB);
+        assertThat(EntityExtractionKeyGenerator.fingerprint(props, modelA))
+                .isNotEqualTo(EntityExtractionKeyGenerator.fingerprint(props, modelB));
+    }
+}
@@ -3,6 +3,7 @@ package io.conflictradar.processing.service.nlp;
 
 import io.conflictradar.processing.config.ProcessingConfig;
 import io.conflictradar.processing.dto.nlp.EntityExtractionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,12 +18,14 @@ class NlpServiceTest {
 
     @Mock
     private ProcessingConfig config;
+    @Mock
+    private DictionaryEntityTagger dictionaryTagger;
 
     private NlpService nlpService;
 
     @BeforeEach
     void setUp() {
-        nlpService = new NlpService(config);
+        nlpService = new NlpService(config, new SimpleMeterRegistry(), dictionaryTagger);
     }
 
     @Test
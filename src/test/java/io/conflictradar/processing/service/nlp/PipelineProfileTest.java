@@ -0,0 +1,64 @@
+package io.conflictradar.processing.service.nlp;
+
+import io.conflictradar.processing.config.NlpConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PipelineProfileTest {
+
+    private static final EnumSet<PipelineProfile.Output> ENTITY_OUTPUTS = EnumSet.of(
+            PipelineProfile.Output.TOKENS,
+            PipelineProfile.Output.SENTENCES,
+            PipelineProfile.Output.NER_TAGS
+    );
+
+    @Test
+    @DisplayName("Should derive tokenize, ssplit, ner for entity extraction without pos or lemma")
+    void shouldDeriveMinimalEntityChain() {
+        PipelineProfile profile = PipelineProfile.derive(PipelineProfile.ENTITIES, ENTITY_OUTPUTS);
+        Properties props = profile.properties();
+
+        assertThat(profile.annotators()).containsExactly("tokenize", "ssplit", "ner");
+        assertThat(props.getProperty("annotators")).isEqualTo("tokenize,ssplit,ner");
+        assertThat(props.getProperty("enforceRequirements")).isEqualTo("false");
+        assertThat(props.getProperty("ner.applyFineGrained")).isEqualTo("false");
+        assertThat(props).doesNotContainKey("parse.model");
+    }
+
+    @Test
+    @DisplayName("Should only configure the parser when parse trees are consumed")
+    void shouldConfigureParserOnlyWhenNeeded() {
+        PipelineProfile profile = PipelineProfile.derive("parse", EnumSet.of(PipelineProfile.Output.PARSE_TREES));
+
+        assertThat(profile.annotators()).containsExactly("tokenize", "ssplit", "pos", "parse");
+        assertThat(profile.properties()).containsKey("parse.model").doesNotContainKey("enforceRequirements");
+    }
+
+    @Test
+    @DisplayName("Should resolve named profiles and let an explicit annotator list win")
+    void shouldResolveConfiguredProfile() {
+        assertThat(PipelineProfile.resolve(stanford(null, null), ENTITY_OUTPUTS).annotators())
+                .containsExactly("tokenize", "ssplit", "ner");
+        assertThat(PipelineProfile.resolve(stanford("full", null), ENTITY_OUTPUTS).annotators())
+                .containsExactly("tokenize", "ssplit", "pos", "lemma", "ner");
+        assertThat(PipelineProfile.resolve(stanford("full", null), ENTITY_OUTPUTS).properties()
+                .getProperty("ner.applyFineGrained")).isEqualTo("false");
+
+        PipelineProfile custom = PipelineProfile.resolve(stanford("full", List.of("tokenize", "ssplit")), ENTITY_OUTPUTS);
+        assertThat(custom.name()).isEqualTo(PipelineProfile.CUSTOM);
+        assertThat(custom.annotators()).containsExactly("tokenize", "ssplit");
+
+        assertThatThrownBy(() -> PipelineProfile.resolve(stanford("everything", null), ENTITY_OUTPUTS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static NlpConfig.Stanford stanford(String profile, List<String> annotators) {
+        return new NlpConfig.Stanford(null, profile, annotators, 30, false);
+    }
+}